@@ -3,6 +3,8 @@ package io.mindspice.simplypages.builders;
 import io.mindspice.simplypages.components.navigation.SideNav;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.RenderContext;
+import io.mindspice.simplypages.core.Template;
 
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -228,6 +230,20 @@ public class ShellBuilder {
      * Builds a full HTML document string including doctype.
      */
     public String build() {
+        return "<!DOCTYPE html>\n" + buildDocument().render();
+    }
+
+    /**
+     * Builds the document like {@link #build()}, minified through {@link Template#minified(Component)}.
+     *
+     * <p>Compiles a template per call; for a shell served on every request, compile
+     * {@code Template.minified} once over the document and render that instead.</p>
+     */
+    public String buildMinified() {
+        return "<!DOCTYPE html>" + Template.minified(buildDocument()).render(RenderContext.empty());
+    }
+
+    private HtmlTag buildDocument() {
         HtmlTag html = new HtmlTag("html").withAttribute("lang", "en");
 
         HtmlTag head = new HtmlTag("head")
@@ -264,7 +280,7 @@ public class ShellBuilder {
         appendInlineScripts(body);
 
         html.withChild(head).withChild(body);
-        return "<!DOCTYPE html>\n" + html.render();
+        return html;
     }
 
     /**
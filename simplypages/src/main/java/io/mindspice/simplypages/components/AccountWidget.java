@@ -1,8 +1,11 @@
 package io.mindspice.simplypages.components;
 
+import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 import io.mindspice.simplypages.core.RenderContext;
 
+import java.util.stream.Stream;
+
 /**
  * Account-state widget that renders either guest links or authenticated user actions.
  *
@@ -69,6 +72,7 @@ public class AccountWidget extends HtmlTag {
      * @return this widget
      */
     public AccountWidget withLoginUrl(String url) {
+        markChanged();
         this.loginUrl = url;
         return this;
     }
@@ -80,6 +84,7 @@ public class AccountWidget extends HtmlTag {
      * @return this widget
      */
     public AccountWidget withSignupUrl(String url) {
+        markChanged();
         this.signupUrl = url;
         return this;
     }
@@ -91,6 +96,7 @@ public class AccountWidget extends HtmlTag {
      * @return this widget
      */
     public AccountWidget withProfileUrl(String url) {
+        markChanged();
         this.profileUrl = url;
         return this;
     }
@@ -102,6 +108,7 @@ public class AccountWidget extends HtmlTag {
      * @return this widget
      */
     public AccountWidget withLogoutUrl(String url) {
+        markChanged();
         this.logoutUrl = url;
         return this;
     }
@@ -114,6 +121,9 @@ public class AccountWidget extends HtmlTag {
      */
     @Override
     public String render(RenderContext context) {
+        if (isFrozen()) {
+            return super.render(context);
+        }
         children.clear();
         if (isAuthenticated) {
             buildAuthenticatedContent();
@@ -133,6 +143,16 @@ public class AccountWidget extends HtmlTag {
         return render(RenderContext.empty());
     }
 
+    /**
+     * Tracks the children built by the last render; they derive only from this widget's fields.
+     *
+     * @return tracked children
+     */
+    @Override
+    protected Stream<Component> getTrackedChildren() {
+        return getChildrenStream();
+    }
+
     /**
      * Builds child nodes for authenticated state.
      */
@@ -28,11 +28,13 @@ public class Blockquote extends HtmlTag {
     }
 
     public Blockquote withCitation(String citation) {
+        markChanged();
         this.citation = citation;
         return this;
     }
 
     public Blockquote withSource(String source) {
+        markChanged();
         this.source = source;
         return this;
     }
@@ -52,6 +52,7 @@ public class Code extends HtmlTag {
      * @param language the language name (e.g., "java", "python", "javascript")
      */
     public Code withLanguage(String language) {
+        markChanged();
         this.language = language;
         return this;
     }
@@ -62,6 +63,7 @@ public class Code extends HtmlTag {
      * @param title the title or filename
      */
     public Code withTitle(String title) {
+        markChanged();
         this.title = title;
         return this;
     }
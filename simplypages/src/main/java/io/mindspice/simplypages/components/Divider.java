@@ -1,6 +1,7 @@
 package io.mindspice.simplypages.components;
 
 import io.mindspice.simplypages.core.Component;
+import io.mindspice.simplypages.core.FlyweightCache;
 import io.mindspice.simplypages.core.HtmlTag;
 import io.mindspice.simplypages.core.RenderContext;
 
@@ -37,6 +38,17 @@ public class Divider extends HtmlTag {
         HORIZONTAL, VERTICAL
     }
 
+    private record Key(DividerOrientation orientation, DividerThickness thickness, DividerStyle style) { }
+
+    private static final FlyweightCache<Key, Divider> SHARED = FlyweightCache.create(
+        DividerOrientation.values().length * DividerThickness.values().length * DividerStyle.values().length,
+        key -> {
+            Divider divider = new Divider(key.orientation());
+            divider.thickness = key.thickness();
+            divider.style = key.style();
+            return divider;
+        });
+
     private DividerOrientation orientation;
     private DividerThickness thickness = DividerThickness.THIN;
     private DividerStyle style = DividerStyle.SOLID;
@@ -57,42 +69,61 @@ public class Divider extends HtmlTag {
         return new Divider(DividerOrientation.VERTICAL);
     }
 
+    /**
+     * Returns a shared, frozen, pre-rendered divider for the given parameters.
+     *
+     * <p>The instance renders as a single copy of its HTML and compiles into {@code Template}s as
+     * static markup. Mutators throw {@link IllegalStateException}; use {@link #cloneTree()} for an
+     * editable copy.</p>
+     */
+    public static Divider shared(DividerOrientation orientation, DividerThickness thickness, DividerStyle style) {
+        return SHARED.get(new Key(orientation, thickness, style));
+    }
+
     public Divider thin() {
+        markChanged();
         this.thickness = DividerThickness.THIN;
         return this;
     }
 
     public Divider medium() {
+        markChanged();
         this.thickness = DividerThickness.MEDIUM;
         return this;
     }
 
     public Divider thick() {
+        markChanged();
         this.thickness = DividerThickness.THICK;
         return this;
     }
 
     public Divider solid() {
+        markChanged();
         this.style = DividerStyle.SOLID;
         return this;
     }
 
     public Divider dashed() {
+        markChanged();
         this.style = DividerStyle.DASHED;
         return this;
     }
 
     public Divider dotted() {
+        markChanged();
         this.style = DividerStyle.DOTTED;
         return this;
     }
 
     public Divider withColor(String color) {
+        markChanged();
         this.color = color;
         return this;
     }
 
     public Divider withText(String text) {
+        markChanged();
         this.text = text;
         return this;
     }
@@ -124,6 +155,14 @@ public class Divider extends HtmlTag {
         return Stream.concat(builder.build(), super.getChildrenStream());
     }
 
+    /**
+     * Tracks the rendered children; the render override only re-applies state-derived styling.
+     */
+    @Override
+    protected Stream<Component> getTrackedChildren() {
+        return getChildrenStream();
+    }
+
     // Override render(RenderContext) to apply styles/classes BEFORE invoking super.render
     @Override
     public String render(RenderContext context) {
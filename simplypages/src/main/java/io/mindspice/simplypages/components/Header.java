@@ -1,6 +1,7 @@
 package io.mindspice.simplypages.components;
 
 import io.mindspice.simplypages.core.Attribute;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 import io.mindspice.simplypages.core.RenderContext;
@@ -8,6 +9,7 @@ import io.mindspice.simplypages.core.RenderContext;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Heading component (H1-H6) with alignment and optional decorative bars.
@@ -107,6 +109,7 @@ public class Header extends HtmlTag {
      * Aligns header text to the left (default).
      */
     public Header left() {
+        markChanged();
         this.alignment = Alignment.LEFT.getCssClass();
         updateAlignmentClass();
         return this;
@@ -116,6 +119,7 @@ public class Header extends HtmlTag {
      * Aligns header text to the center.
      */
     public Header center() {
+        markChanged();
         this.alignment = Alignment.CENTER.getCssClass();
         updateAlignmentClass();
         return this;
@@ -125,6 +129,7 @@ public class Header extends HtmlTag {
      * Aligns header text to the right.
      */
     public Header right() {
+        markChanged();
         this.alignment = Alignment.RIGHT.getCssClass();
         updateAlignmentClass();
         return this;
@@ -134,6 +139,7 @@ public class Header extends HtmlTag {
      * Justifies header text.
      */
     public Header justify() {
+        markChanged();
         this.alignment = Alignment.JUSTIFY.getCssClass();
         updateAlignmentClass();
         return this;
@@ -182,6 +188,7 @@ public class Header extends HtmlTag {
      * Adds a default horizontal divider above the header.
      */
     public Header withTopBar() {
+        markChanged();
         this.topBar = Divider.horizontal();
         return this;
     }
@@ -192,6 +199,7 @@ public class Header extends HtmlTag {
      * @param divider the divider component to use
      */
     public Header withTopBar(Component divider) {
+        markChanged();
         this.topBar = divider;
         return this;
     }
@@ -200,6 +208,7 @@ public class Header extends HtmlTag {
      * Adds a default horizontal divider below the header.
      */
     public Header withBottomBar() {
+        markChanged();
         this.bottomBar = Divider.horizontal();
         return this;
     }
@@ -210,6 +219,7 @@ public class Header extends HtmlTag {
      * @param divider the divider component to use
      */
     public Header withBottomBar(Component divider) {
+        markChanged();
         this.bottomBar = divider;
         return this;
     }
@@ -251,4 +261,23 @@ public class Header extends HtmlTag {
         return render(RenderContext.empty());
     }
 
+    /**
+     * Tracks the optional bars along with the header's own children.
+     */
+    @Override
+    protected Stream<Component> getTrackedChildren() {
+        return Stream.of(Stream.ofNullable(topBar), getChildrenStream(), Stream.ofNullable(bottomBar))
+            .flatMap(components -> components);
+    }
+
+    /**
+     * Detaches top/bottom bar components from the prototype.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        topBar = context.copy(topBar);
+        bottomBar = context.copy(bottomBar);
+    }
 }
@@ -1,11 +1,12 @@
 package io.mindspice.simplypages.components;
 
+import io.mindspice.simplypages.core.FlyweightCache;
 import io.mindspice.simplypages.core.HtmlTag;
 
 /**
  * Icon wrapper for multiple icon-library class conventions.
  *
- * <p>Mutable and not thread-safe. Library/name/size settings rewrite class attributes in place. Mutate within a request-scoped flow. For reuse, stop mutating and render as a stable structure with per-request slot/context values.</p>
+ * <p>Mutable and not thread-safe. Library/name/size settings rewrite class attributes in place. Mutate within a request-scoped flow. For reuse, stop mutating and render as a stable structure with per-request slot/context values. Instances from {@link #shared(IconLibrary, String, Size)} are frozen and thread-safe.</p>
  */
 public class Icon extends HtmlTag {
 
@@ -45,6 +46,18 @@ public class Icon extends HtmlTag {
         }
     }
 
+    private record Key(IconLibrary library, String iconName, Size size) { }
+
+    private static final FlyweightCache<Key, Icon> SHARED = FlyweightCache.create(512, key -> {
+        Icon icon = new Icon(key.library(), key.iconName());
+        icon.size = key.size();
+        icon.updateClasses();
+        if (key.library() == IconLibrary.MATERIAL) {
+            icon.withInnerText(key.iconName());
+        }
+        return icon;
+    });
+
     private IconLibrary library;
     private String iconName;
     private Size size = Size.MEDIUM;
@@ -115,10 +128,26 @@ public class Icon extends HtmlTag {
         return icon;
     }
 
+    /**
+     * Returns a shared, frozen, pre-rendered icon for the given parameters.
+     *
+     * <p>Use for the repeated icons of lists and tables; the instance renders as a single copy of
+     * its HTML and compiles into {@code Template}s as static markup. Mutators throw
+     * {@link IllegalStateException}; use {@link #cloneTree()} for an editable copy.</p>
+     *
+     * @param library the icon library
+     * @param iconName the icon name, or the complete class name for {@link IconLibrary#CUSTOM}
+     * @param size the icon size
+     */
+    public static Icon shared(IconLibrary library, String iconName, Size size) {
+        return SHARED.get(new Key(library, iconName, size));
+    }
+
     /**
      * Sets small size.
      */
     public Icon small() {
+        markChanged();
         this.size = Size.SMALL;
         updateClasses();
         return this;
@@ -128,6 +157,7 @@ public class Icon extends HtmlTag {
      * Sets large size.
      */
     public Icon large() {
+        markChanged();
         this.size = Size.LARGE;
         updateClasses();
         return this;
@@ -137,6 +167,7 @@ public class Icon extends HtmlTag {
      * Sets extra large size.
      */
     public Icon extraLarge() {
+        markChanged();
         this.size = Size.EXTRA_LARGE;
         updateClasses();
         return this;
@@ -97,6 +97,7 @@ public class Image extends HtmlTag {
      * @throws IllegalArgumentException if src contains a dangerous URL scheme
      */
     public Image withSrc(String src) {
+        markChanged();
         validateImageUrl(src);
         this.src = src;
         this.withAttribute("src", src);
@@ -104,6 +105,7 @@ public class Image extends HtmlTag {
     }
 
     public Image withSize(String width, String height) {
+        markChanged();
         this.width = width;
         this.height = height;
         this.withAttribute("width", width);
@@ -1,8 +1,11 @@
 package io.mindspice.simplypages.components;
 
+import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 import io.mindspice.simplypages.core.RenderContext;
 
+import java.util.stream.Stream;
+
 /**
  * Mutable list item wrapper that stores text then writes it during render.
  *
@@ -39,6 +42,7 @@ public class ListItem extends HtmlTag {
     }
 
     public ListItem withText(String text) {
+        markChanged();
         this.text = text;
         return this;
     }
@@ -59,4 +63,12 @@ public class ListItem extends HtmlTag {
         return render(RenderContext.empty());
     }
 
+    /**
+     * Tracks the rendered children; the render override only re-applies the item text.
+     */
+    @Override
+    protected Stream<Component> getTrackedChildren() {
+        return getChildrenStream();
+    }
+
 }
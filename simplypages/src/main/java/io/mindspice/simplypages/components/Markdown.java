@@ -1,6 +1,6 @@
 package io.mindspice.simplypages.components;
 
-import io.mindspice.simplypages.core.Component;
+import io.mindspice.simplypages.core.ImmutableComponent;
 import org.commonmark.ext.gfm.tables.TablesExtension;
 import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
@@ -16,7 +16,7 @@ import java.util.List;
  * <p>Security boundary: default rendering escapes raw HTML. Use {@link #createUnsafe(String)} or
  * {@link #Markdown(String, boolean)} with {@code allowRawHtml=true} only for trusted markdown sources.</p>
  */
-public class Markdown implements Component {
+public class Markdown implements ImmutableComponent {
 
     private final String markdownText;
     private final boolean allowRawHtml;
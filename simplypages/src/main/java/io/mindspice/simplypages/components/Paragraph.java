@@ -117,6 +117,7 @@ public class Paragraph extends HtmlTag {
      * Internal method to set alignment and reset applied flag.
      */
     private void setAlignmentInternal(String newAlignment) {
+        markChanged();
         this.alignment = newAlignment;
     }
 
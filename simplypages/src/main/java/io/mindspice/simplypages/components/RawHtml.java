@@ -1,6 +1,6 @@
 package io.mindspice.simplypages.components;
 
-import io.mindspice.simplypages.core.Component;
+import io.mindspice.simplypages.core.ImmutableComponent;
 
 /**
  * Renders trusted HTML without escaping.
@@ -10,7 +10,7 @@ import io.mindspice.simplypages.core.Component;
  *
  * <p>Immutable and thread-safe after construction.</p>
  */
-public class RawHtml implements Component {
+public class RawHtml implements ImmutableComponent {
     private final String html;
 
     /**
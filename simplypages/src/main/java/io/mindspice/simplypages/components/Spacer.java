@@ -1,11 +1,12 @@
 package io.mindspice.simplypages.components;
 
+import io.mindspice.simplypages.core.FlyweightCache;
 import io.mindspice.simplypages.core.HtmlTag;
 
 /**
  * Empty spacing helper for vertical or horizontal gaps.
  *
- * <p>Mutable and not thread-safe. Orientation and size styles are applied to the same instance. Mutate within a request-scoped flow. For reuse, stop mutating and render as a stable structure with per-request slot/context values.</p>
+ * <p>Mutable and not thread-safe. Orientation and size styles are applied to the same instance. Mutate within a request-scoped flow. For reuse, stop mutating and render as a stable structure with per-request slot/context values. Instances from {@link #shared(SpacerType, SpacerSize)} are frozen and thread-safe.</p>
  */
 public class Spacer extends HtmlTag {
 
@@ -30,6 +31,12 @@ public class Spacer extends HtmlTag {
         VERTICAL, HORIZONTAL
     }
 
+    private record Key(SpacerType type, SpacerSize size) { }
+
+    private static final FlyweightCache<Key, Spacer> SHARED =
+        FlyweightCache.create(SpacerType.values().length * SpacerSize.values().length,
+            key -> new Spacer(key.type()).setSize(key.size()));
+
     private SpacerType type;
 
     private Spacer(SpacerType type) {
@@ -52,6 +59,17 @@ public class Spacer extends HtmlTag {
         return new Spacer(SpacerType.HORIZONTAL);
     }
 
+    /**
+     * Returns a shared, frozen, pre-rendered spacer for the given parameters.
+     *
+     * <p>The instance renders as a single copy of its HTML and compiles into {@code Template}s as
+     * static markup. Mutators throw {@link IllegalStateException}; use {@link #cloneTree()} for an
+     * editable copy.</p>
+     */
+    public static Spacer shared(SpacerType type, SpacerSize size) {
+        return SHARED.get(new Key(type, size));
+    }
+
     /**
      * Sets small spacing (16px).
      */
@@ -1,6 +1,6 @@
 package io.mindspice.simplypages.components;
 
-import io.mindspice.simplypages.core.Component;
+import io.mindspice.simplypages.core.ImmutableComponent;
 import org.owasp.encoder.Encode;
 
 /**
@@ -8,7 +8,7 @@ import org.owasp.encoder.Encode;
  *
  * <p>Immutable and thread-safe after construction.</p>
  */
-public class TextNode implements Component {
+public class TextNode implements ImmutableComponent {
 
     private final String text;
 
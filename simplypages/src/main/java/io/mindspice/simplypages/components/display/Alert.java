@@ -1,12 +1,13 @@
 package io.mindspice.simplypages.components.display;
 
 import io.mindspice.simplypages.core.Component;
+import io.mindspice.simplypages.core.FlyweightCache;
 import io.mindspice.simplypages.core.HtmlTag;
 
 /**
  * Alert message component with severity style variants.
  *
- * <p>Mutable and not thread-safe. Styling methods mutate class attributes on this instance. Mutate within a request-scoped flow. For reuse, stop mutating and render as a stable structure with per-request slot/context values.</p>
+ * <p>Mutable and not thread-safe. Styling methods mutate class attributes on this instance. Mutate within a request-scoped flow. For reuse, stop mutating and render as a stable structure with per-request slot/context values. Instances from {@link #shared(String, AlertType)} are frozen and thread-safe.</p>
  */
 public class Alert extends HtmlTag {
 
@@ -27,6 +28,11 @@ public class Alert extends HtmlTag {
         }
     }
 
+    private record Key(String message, AlertType type) { }
+
+    private static final FlyweightCache<Key, Alert> SHARED =
+        FlyweightCache.create(256, key -> new Alert(key.message(), key.type()));
+
     public Alert(String message, AlertType type) {
         super("div");
         this.withAttribute("class", "alert " + type.getCssClass());
@@ -49,6 +55,18 @@ public class Alert extends HtmlTag {
         return new Alert(message, AlertType.DANGER);
     }
 
+    /**
+     * Returns a shared, frozen, pre-rendered alert for the given parameters.
+     *
+     * <p>Use for repeated fixed notices; the instance renders as a single copy of its HTML and
+     * compiles into {@code Template}s as static markup. Only the first 256 combinations are
+     * retained; later ones are built per call. Mutators throw {@link IllegalStateException}; use
+     * {@link #cloneTree()} for an editable copy.</p>
+     */
+    public static Alert shared(String message, AlertType type) {
+        return SHARED.get(new Key(message, type));
+    }
+
     public Alert dismissible() {
         super.addClass("alert-dismissible");
         return this;
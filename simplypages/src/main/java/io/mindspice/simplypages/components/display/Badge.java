@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.components.display;
 
+import io.mindspice.simplypages.core.FlyweightCache;
 import io.mindspice.simplypages.core.HtmlTag;
 
 /**
@@ -28,6 +29,11 @@ public class Badge extends HtmlTag {
         }
     }
 
+    private record Key(String text, BadgeStyle style) { }
+
+    private static final FlyweightCache<Key, Badge> SHARED =
+        FlyweightCache.create(256, key -> new Badge(key.text()).withStyle(key.style()));
+
     public Badge(String text) {
         super("span");
         this.withAttribute("class", "badge badge-primary");
@@ -62,6 +68,18 @@ public class Badge extends HtmlTag {
         return new Badge(text).withStyle(BadgeStyle.INFO);
     }
 
+    /**
+     * Returns a shared, frozen, pre-rendered badge for the given parameters.
+     *
+     * <p>Use for repeated labels such as statuses; the instance renders as a single copy of its
+     * HTML and compiles into {@code Template}s as static markup. Only the first 256 combinations are
+     * retained; later ones are built per call. Mutators throw {@link IllegalStateException}; use
+     * {@link #cloneTree()} for an editable copy.</p>
+     */
+    public static Badge shared(String text, BadgeStyle style) {
+        return SHARED.get(new Key(text, style));
+    }
+
     public Badge withStyle(BadgeStyle style) {
         this.withAttribute("class", "badge " + style.getCssClass());
         return this;
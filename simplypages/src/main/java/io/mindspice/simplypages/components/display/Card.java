@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.components.display;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 
@@ -13,9 +14,9 @@ import java.util.stream.Stream;
  */
 public class Card extends HtmlTag {
 
-    private final HtmlTag headerContainer = new HtmlTag("div").addClass("card-header");
-    private final HtmlTag bodyContainer = new HtmlTag("div").addClass("card-body");
-    private final HtmlTag footerContainer = new HtmlTag("div").addClass("card-footer");
+    private HtmlTag headerContainer = new HtmlTag("div").addClass("card-header");
+    private HtmlTag bodyContainer = new HtmlTag("div").addClass("card-body");
+    private HtmlTag footerContainer = new HtmlTag("div").addClass("card-footer");
     private HtmlTag imageComponent;
 
     private boolean hasHeader = false;
@@ -68,6 +69,7 @@ public class Card extends HtmlTag {
     }
 
     public Card withImage(String src, String alt) {
+        markChanged();
         this.imageComponent = new HtmlTag("img", true)
             .withAttribute("src", src)
             .withAttribute("alt", alt)
@@ -81,6 +83,14 @@ public class Card extends HtmlTag {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        headerContainer = context.copy(headerContainer);
+        bodyContainer = context.copy(bodyContainer);
+        footerContainer = context.copy(footerContainer);
+        imageComponent = context.copy(imageComponent);
+    }
+
     @Override
     protected Stream<Component> getChildrenStream() {
         // Construct the stream of components in the enforced order.
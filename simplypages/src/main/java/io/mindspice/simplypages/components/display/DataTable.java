@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.components.display;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 
@@ -15,8 +16,8 @@ import java.util.stream.Stream;
  */
 public class DataTable<T> extends HtmlTag {
 
-    private final List<Column<T>> columns = new ArrayList<>();
-    private final List<T> data = new ArrayList<>();
+    private List<Column<T>> columns = new ArrayList<>();
+    private List<T> data = new ArrayList<>();
     private boolean striped = false;
     private boolean bordered = false;
     private boolean hoverable = false;
@@ -49,6 +50,7 @@ public class DataTable<T> extends HtmlTag {
      * @return this table
      */
     public DataTable<T> addColumn(String header, Function<T, String> extractor) {
+        markChanged();
         columns.add(new Column<>(header, extractor));
         return this;
     }
@@ -62,6 +64,7 @@ public class DataTable<T> extends HtmlTag {
      * @return this table
      */
     public DataTable<T> addColumn(String header, Function<T, String> extractor, String cssClass) {
+        markChanged();
         columns.add(new Column<>(header, extractor, cssClass));
         return this;
     }
@@ -84,6 +87,7 @@ public class DataTable<T> extends HtmlTag {
      * @return this table
      */
     public DataTable<T> addRow(T item) {
+        markChanged();
         this.data.add(item);
         return this;
     }
@@ -94,6 +98,7 @@ public class DataTable<T> extends HtmlTag {
      * @return this table
      */
     public DataTable<T> striped() {
+        markChanged();
         this.striped = true;
         return this;
     }
@@ -104,6 +109,7 @@ public class DataTable<T> extends HtmlTag {
      * @return this table
      */
     public DataTable<T> bordered() {
+        markChanged();
         this.bordered = true;
         return this;
     }
@@ -114,6 +120,7 @@ public class DataTable<T> extends HtmlTag {
      * @return this table
      */
     public DataTable<T> hoverable() {
+        markChanged();
         this.hoverable = true;
         return this;
     }
@@ -126,6 +133,7 @@ public class DataTable<T> extends HtmlTag {
      * @return this table
      */
     public DataTable<T> sortable() {
+        markChanged();
         this.sortable = true;
         return this;
     }
@@ -182,6 +190,17 @@ public class DataTable<T> extends HtmlTag {
         return Stream.concat(Stream.of(table), super.getChildrenStream());
     }
 
+    /**
+     * Detaches column and row lists from the prototype.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        columns = context.copyAll(columns);
+        data = context.copyAll(data);
+    }
+
     /**
      * Internal immutable column descriptor.
      */
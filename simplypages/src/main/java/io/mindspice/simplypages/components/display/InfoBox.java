@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.components.display;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 
@@ -10,10 +11,10 @@ import io.mindspice.simplypages.core.HtmlTag;
  */
 public class InfoBox extends HtmlTag {
 
-    private final HtmlTag iconDiv;
-    private final HtmlTag contentDiv;
-    private final HtmlTag titleDiv;
-    private final HtmlTag valueDiv;
+    private HtmlTag iconDiv;
+    private HtmlTag contentDiv;
+    private HtmlTag titleDiv;
+    private HtmlTag valueDiv;
 
     public InfoBox() {
         super("div");
@@ -50,6 +51,7 @@ public class InfoBox extends HtmlTag {
     }
 
     public InfoBox withIcon(String icon) {
+        markChanged();
         iconDiv.withInnerText(icon);
         // Ensure iconDiv is first child if not already present
         if (!children.contains(iconDiv)) {
@@ -64,5 +66,13 @@ public class InfoBox extends HtmlTag {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        iconDiv = context.copy(iconDiv);
+        contentDiv = context.copy(contentDiv);
+        titleDiv = context.copy(titleDiv);
+        valueDiv = context.copy(valueDiv);
+    }
+
     // Removed getChildrenStream override
 }
@@ -1,9 +1,13 @@
 package io.mindspice.simplypages.components.display;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.IdScope;
 import io.mindspice.simplypages.core.RenderContext;
 
+import java.util.stream.Stream;
+
 /**
  * Backdrop-based modal renderer with configurable close behavior.
  *
@@ -27,12 +31,12 @@ public class Modal extends HtmlTag {
             java.util.regex.Pattern.compile("^[a-zA-Z][a-zA-Z0-9_-]*$");
 
     /**
-     * Creates a modal with generated id and default close behavior enabled.
+     * Creates a modal with an {@link IdScope}-generated id and default close behavior enabled.
      */
     private Modal() {
         super("div");
         this.withClass("modal-backdrop");
-        this.modalId = "modal-" + System.currentTimeMillis();
+        this.modalId = IdScope.next("modal");
     }
 
     /**
@@ -52,6 +56,7 @@ public class Modal extends HtmlTag {
      * @throws IllegalArgumentException when id format is invalid
      */
     public Modal withModalId(String modalId) {
+        markChanged();
         if (modalId == null || !VALID_ID_PATTERN.matcher(modalId).matches()) {
             throw new IllegalArgumentException(
                     "Modal ID must start with a letter and contain only letters, numbers, hyphens, and underscores. Got: " + modalId);
@@ -67,6 +72,7 @@ public class Modal extends HtmlTag {
      * @return this modal
      */
     public Modal withTitle(String title) {
+        markChanged();
         this.title = title;
         return this;
     }
@@ -78,6 +84,7 @@ public class Modal extends HtmlTag {
      * @return this modal
      */
     public Modal withBody(Component body) {
+        markChanged();
         this.body = body;
         return this;
     }
@@ -89,6 +96,7 @@ public class Modal extends HtmlTag {
      * @return this modal
      */
     public Modal withFooter(Component footer) {
+        markChanged();
         this.footer = footer;
         return this;
     }
@@ -100,6 +108,7 @@ public class Modal extends HtmlTag {
      * @return this modal
      */
     public Modal closeOnBackdrop(boolean enabled) {
+        markChanged();
         this.closeOnBackdrop = enabled;
         return this;
     }
@@ -111,6 +120,7 @@ public class Modal extends HtmlTag {
      * @return this modal
      */
     public Modal closeOnEscape(boolean enabled) {
+        markChanged();
         this.closeOnEscape = enabled;
         return this;
     }
@@ -122,6 +132,7 @@ public class Modal extends HtmlTag {
      * @return this modal
      */
     public Modal showCloseButton(boolean show) {
+        markChanged();
         this.showCloseButton = show;
         return this;
     }
@@ -214,6 +225,27 @@ public class Modal extends HtmlTag {
         return render();
     }
 
+    /**
+     * Tracks body and footer; the remaining markup derives from fields guarded by {@code markChanged()}.
+     *
+     * @return body and footer components
+     */
+    @Override
+    protected Stream<Component> getTrackedChildren() {
+        return Stream.concat(Stream.ofNullable(body), Stream.ofNullable(footer));
+    }
+
+    /**
+     * Detaches body and footer components from the prototype.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        body = context.copy(body);
+        footer = context.copy(footer);
+    }
+
     /**
      * Escapes title text for safe inline HTML insertion.
      *
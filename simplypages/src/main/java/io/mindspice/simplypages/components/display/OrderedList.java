@@ -1,7 +1,9 @@
 package io.mindspice.simplypages.components.display;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.MutableComponent;
 import io.mindspice.simplypages.core.RenderContext;
 import org.owasp.encoder.Encode;
 
@@ -16,7 +18,7 @@ import java.util.stream.Stream;
  */
 public class OrderedList extends HtmlTag {
 
-    private final List<ListItem> items = new ArrayList<>();
+    private List<ListItem> items = new ArrayList<>();
 
     /**
      * Creates an ordered list with base class {@code list}.
@@ -42,6 +44,7 @@ public class OrderedList extends HtmlTag {
      * @return this list
      */
     public OrderedList addItem(String text) {
+        markChanged();
         items.add(new ListItem(text));
         return this;
     }
@@ -53,6 +56,7 @@ public class OrderedList extends HtmlTag {
      * @return this list
      */
     public OrderedList addItem(Component component) {
+        markChanged();
         items.add(new ListItem(component));
         return this;
     }
@@ -103,12 +107,22 @@ public class OrderedList extends HtmlTag {
         );
     }
 
+    /**
+     * Detaches the item list from the prototype.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        items = context.copyAll(items);
+    }
+
     /**
      * Internal list-item model.
      */
-    private static class ListItem implements Component {
+    private static class ListItem extends MutableComponent {
         private final String text;
-        private final Component component;
+        private Component component;
 
         /**
          * Creates text item.
@@ -130,6 +144,26 @@ public class OrderedList extends HtmlTag {
             this.component = component;
         }
 
+        /**
+         * Detaches the component value from the prototype.
+         *
+         * @param context clone pass
+         */
+        @Override
+        protected void cloneState(CloneContext context) {
+            component = context.copy(component);
+        }
+
+        /**
+         * Returns the component value, if any.
+         *
+         * @return nested component stream
+         */
+        @Override
+        protected Stream<Component> getNestedComponents() {
+            return Stream.ofNullable(component);
+        }
+
         /**
          * Renders escaped text items or delegated component output.
          *
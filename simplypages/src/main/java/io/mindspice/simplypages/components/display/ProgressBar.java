@@ -50,52 +50,62 @@ public class ProgressBar extends HtmlTag {
     }
 
     public ProgressBar withLabel(String label) {
+        markChanged();
         this.label = label;
         return this;
     }
 
     public ProgressBar withMax(int max) {
+        markChanged();
         this.max = max;
         return this;
     }
 
     public ProgressBar primary() {
+        markChanged();
         this.colorType = ColorType.PRIMARY;
         return this;
     }
 
     public ProgressBar success() {
+        markChanged();
         this.colorType = ColorType.SUCCESS;
         return this;
     }
 
     public ProgressBar warning() {
+        markChanged();
         this.colorType = ColorType.WARNING;
         return this;
     }
 
     public ProgressBar error() {
+        markChanged();
         this.colorType = ColorType.ERROR;
         return this;
     }
 
     public ProgressBar info() {
+        markChanged();
         this.colorType = ColorType.INFO;
         return this;
     }
 
     public ProgressBar striped() {
+        markChanged();
         this.striped = true;
         return this;
     }
 
     public ProgressBar animated() {
+        markChanged();
         this.animated = true;
         this.striped = true; // Animated requires striped
         return this;
     }
 
     public ProgressBar withHeight(String height) {
+        markChanged();
         this.height = height;
         this.withAttribute("style", "height: " + height + ";");
         return this;
@@ -1,6 +1,7 @@
 package io.mindspice.simplypages.components.display;
 
 import io.mindspice.simplypages.core.Component;
+import io.mindspice.simplypages.core.FlyweightCache;
 import io.mindspice.simplypages.core.HtmlTag;
 import java.util.stream.Stream;
 
@@ -27,6 +28,13 @@ public class Spinner extends HtmlTag {
         }
     }
 
+    private static final FlyweightCache<Size, Spinner> SHARED = FlyweightCache.create(Size.values().length, size -> {
+        Spinner spinner = new Spinner();
+        spinner.size = size;
+        spinner.updateClasses();
+        return spinner;
+    });
+
     private Size size = Size.MEDIUM;
     private String message;
     private String color;
@@ -42,30 +50,46 @@ public class Spinner extends HtmlTag {
         return new Spinner();
     }
 
+    /**
+     * Returns a shared, frozen, pre-rendered spinner of {@code size} without message or color.
+     *
+     * <p>The instance renders as a single copy of its HTML and compiles into {@code Template}s as
+     * static markup. Mutators throw {@link IllegalStateException}; use {@link #cloneTree()} for an
+     * editable copy.</p>
+     */
+    public static Spinner shared(Size size) {
+        return SHARED.get(size);
+    }
+
     public Spinner small() {
+        markChanged();
         this.size = Size.SMALL;
         updateClasses();
         return this;
     }
 
     public Spinner medium() {
+        markChanged();
         this.size = Size.MEDIUM;
         updateClasses();
         return this;
     }
 
     public Spinner large() {
+        markChanged();
         this.size = Size.LARGE;
         updateClasses();
         return this;
     }
 
     public Spinner withMessage(String message) {
+        markChanged();
         this.message = message;
         return this;
     }
 
     public Spinner withColor(String color) {
+        markChanged();
         this.color = color;
         updateClasses();
         return this;
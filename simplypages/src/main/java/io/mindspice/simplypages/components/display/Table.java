@@ -1,12 +1,15 @@
 package io.mindspice.simplypages.components.display;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.MutableComponent;
 import io.mindspice.simplypages.core.RenderContext;
 import org.owasp.encoder.Encode;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Stateful table builder with explicit header/body sections.
@@ -16,9 +19,9 @@ import java.util.List;
  */
 public class Table extends HtmlTag {
 
-    private final HtmlTag thead;
-    private final HtmlTag tbody;
-    private final HtmlTag headerRow;
+    private HtmlTag thead;
+    private HtmlTag tbody;
+    private HtmlTag headerRow;
 
     /**
      * Creates a table with preattached {@code thead > tr} and {@code tbody}.
@@ -147,13 +150,25 @@ public class Table extends HtmlTag {
         return this;
     }
 
+    /**
+     * Re-points header/body section references at the cloned sections.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        thead = context.copy(thead);
+        tbody = context.copy(tbody);
+        headerRow = context.copy(headerRow);
+    }
+
     /**
      * Renderable table row model.
      *
      * <p>Mutable only during construction.</p>
      */
-    public static class Row implements Component {
-        private final List<Cell> cells = new ArrayList<>();
+    public static class Row extends MutableComponent {
+        private List<Cell> cells = new ArrayList<>();
 
         /**
          * Creates a row from text cells.
@@ -183,6 +198,26 @@ public class Table extends HtmlTag {
          * @param context render context
          * @return row HTML
          */
+        /**
+         * Detaches the cell list from the prototype.
+         *
+         * @param context clone pass
+         */
+        @Override
+        protected void cloneState(CloneContext context) {
+            cells = context.copyAll(cells);
+        }
+
+        /**
+         * Returns this row's cells.
+         *
+         * @return cell stream
+         */
+        @Override
+        protected Stream<Component> getNestedComponents() {
+            return cells.stream().map(cell -> (Component) cell);
+        }
+
         @Override
         public String render(RenderContext context) {
             StringBuilder sb = new StringBuilder("<tr>");
@@ -207,9 +242,9 @@ public class Table extends HtmlTag {
      *
      * <p>Exactly one of text or component is set per instance.</p>
      */
-    public static class Cell implements Component {
+    public static class Cell extends MutableComponent {
         private final String textValue;
-        private final Component componentValue;
+        private Component componentValue;
 
         /**
          * Creates a text cell.
@@ -237,6 +272,26 @@ public class Table extends HtmlTag {
          * @param context render context
          * @return cell HTML
          */
+        /**
+         * Detaches the component value from the prototype.
+         *
+         * @param context clone pass
+         */
+        @Override
+        protected void cloneState(CloneContext context) {
+            componentValue = context.copy(componentValue);
+        }
+
+        /**
+         * Returns the component value, if any.
+         *
+         * @return nested component stream
+         */
+        @Override
+        protected Stream<Component> getNestedComponents() {
+            return Stream.ofNullable(componentValue);
+        }
+
         @Override
         public String render(RenderContext context) {
             String content = textValue != null ? Encode.forHtml(textValue) : componentValue.render(context);
@@ -1,8 +1,10 @@
 package io.mindspice.simplypages.components.forms;
 
 import io.mindspice.simplypages.components.Div;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.IdScope;
 import java.util.stream.Stream;
 
 /**
@@ -12,7 +14,7 @@ import java.util.stream.Stream;
  */
 public class Checkbox extends Div {
 
-    private final HtmlTag input;
+    private HtmlTag input;
     private HtmlTag label;
 
     /**
@@ -57,13 +59,14 @@ public class Checkbox extends Div {
     /**
      * Creates and attaches a label linked to this checkbox.
      *
-     * <p>This method always assigns a generated id to the input and overwrites any previous id.</p>
+     * <p>This method always assigns an {@link IdScope}-generated id to the input and overwrites any previous id.</p>
      *
      * @param labelText label text
      * @return this checkbox
      */
     public Checkbox withLabel(String labelText) {
-        String id = "checkbox-" + System.nanoTime();
+        markChanged();
+        String id = IdScope.next("checkbox");
         this.input.withAttribute("id", id);
 
         this.label = new HtmlTag("label")
@@ -103,6 +106,17 @@ public class Checkbox extends Div {
         return this;
     }
 
+    /**
+     * Detaches input and label tags from the prototype.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        input = context.copy(input);
+        label = context.copy(label);
+    }
+
     /**
      * Renders checkbox input first, optional label second, then inherited children.
      *
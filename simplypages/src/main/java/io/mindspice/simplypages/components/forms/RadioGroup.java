@@ -1,6 +1,7 @@
 package io.mindspice.simplypages.components.forms;
 
 import io.mindspice.simplypages.components.Div;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.HtmlTag;
 import io.mindspice.simplypages.core.Component;
 
@@ -16,7 +17,7 @@ import java.util.stream.Stream;
 public class RadioGroup extends Div {
 
     private final String name;
-    private final List<RadioOption> options = new ArrayList<>();
+    private List<RadioOption> options = new ArrayList<>();
     private String selectedValue;
 
     /**
@@ -48,6 +49,7 @@ public class RadioGroup extends Div {
      * @return this group
      */
     public RadioGroup addOption(String value, String label) {
+        markChanged();
         options.add(new RadioOption(value, label));
         return this;
     }
@@ -59,6 +61,7 @@ public class RadioGroup extends Div {
      * @return this group
      */
     public RadioGroup withSelectedValue(String value) {
+        markChanged();
         this.selectedValue = value;
         return this;
     }
@@ -125,6 +128,22 @@ public class RadioGroup extends Div {
         return Stream.concat(optionsStream, super.getChildrenStream());
     }
 
+    /**
+     * Detaches the option list and its mutable option models from the prototype.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        List<RadioOption> copies = new ArrayList<>(options.size());
+        for (RadioOption option : options) {
+            RadioOption copy = new RadioOption(option.value, option.label);
+            copy.required = option.required;
+            copies.add(copy);
+        }
+        options = copies;
+    }
+
     /**
      * Internal mutable option model used at render time.
      */
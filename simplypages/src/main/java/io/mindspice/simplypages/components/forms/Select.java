@@ -1,7 +1,9 @@
 package io.mindspice.simplypages.components.forms;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.MutableComponent;
 import io.mindspice.simplypages.core.RenderContext;
 import org.owasp.encoder.Encode;
 
@@ -16,7 +18,7 @@ import java.util.stream.Stream;
  */
 public class Select extends HtmlTag {
 
-    private final List<Option> options = new ArrayList<>();
+    private List<Option> options = new ArrayList<>();
 
     /**
      * Creates a select element.
@@ -100,6 +102,7 @@ public class Select extends HtmlTag {
      * @return this select
      */
     public Select addOption(String value, String label) {
+        markChanged();
         options.add(new Option(value, label, false));
         return this;
     }
@@ -113,6 +116,7 @@ public class Select extends HtmlTag {
      * @return this select
      */
     public Select addOption(String value, String label, boolean selected) {
+        markChanged();
         options.add(new Option(value, label, selected));
         return this;
     }
@@ -124,6 +128,7 @@ public class Select extends HtmlTag {
      * @return this select
      */
     public Select addOptions(List<String> values) {
+        markChanged();
         values.forEach(v -> options.add(new Option(v, v, false)));
         return this;
     }
@@ -189,12 +194,23 @@ public class Select extends HtmlTag {
         return this;
     }
 
+    /**
+     * Detaches the option list from the prototype.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        options = context.copyAll(options);
+    }
+
     /**
      * Renderable select option model.
      *
-     * <p>Effectively immutable except {@link #disabled()}.</p>
+     * <p>Effectively immutable except {@link #disabled()}, which reports the change to enclosing
+     * module caches.</p>
      */
-    public static class Option implements Component {
+    public static class Option extends MutableComponent {
         private final String value;
         private final String label;
         private final boolean selected;
@@ -219,6 +235,7 @@ public class Select extends HtmlTag {
          * @return this option
          */
         public Option disabled() {
+            markChanged();
             this.disabled = true;
             return this;
         }
@@ -30,26 +30,31 @@ public class Comment extends HtmlTag {
     }
 
     public Comment withAuthor(String author) {
+        markChanged();
         this.author = author;
         return this;
     }
 
     public Comment withTimestamp(String timestamp) {
+        markChanged();
         this.timestamp = timestamp;
         return this;
     }
 
     public Comment withContent(String content) {
+        markChanged();
         this.content = content;
         return this;
     }
 
     public Comment disableMarkdown() {
+        markChanged();
         this.useMarkdown = false;
         return this;
     }
 
     public Comment withDepth(int depth) {
+        markChanged();
         this.depth = depth;
         return this;
     }
@@ -104,4 +109,12 @@ public class Comment extends HtmlTag {
         }
         return super.render(context);
     }
+
+    /**
+     * Tracks the rendered children; the render override only re-applies depth styling.
+     */
+    @Override
+    protected Stream<Component> getTrackedChildren() {
+        return getChildrenStream();
+    }
 }
@@ -32,36 +32,43 @@ public class ForumPost extends HtmlTag {
     }
 
     public ForumPost withAuthor(String author) {
+        markChanged();
         this.author = author;
         return this;
     }
 
     public ForumPost withTimestamp(String timestamp) {
+        markChanged();
         this.timestamp = timestamp;
         return this;
     }
 
     public ForumPost withTitle(String title) {
+        markChanged();
         this.title = title;
         return this;
     }
 
     public ForumPost withContent(String content) {
+        markChanged();
         this.content = content;
         return this;
     }
 
     public ForumPost disableMarkdown() {
+        markChanged();
         this.useMarkdown = false;
         return this;
     }
 
     public ForumPost withReplies(int replies) {
+        markChanged();
         this.replies = replies;
         return this;
     }
 
     public ForumPost withLikes(int likes) {
+        markChanged();
         this.likes = likes;
         return this;
     }
@@ -1,7 +1,9 @@
 package io.mindspice.simplypages.components.navigation;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.ImmutableComponent;
 import io.mindspice.simplypages.core.RenderContext;
 import org.owasp.encoder.Encode;
 
@@ -16,7 +18,7 @@ import java.util.stream.Stream;
  */
 public class Breadcrumb extends HtmlTag {
 
-    private final List<BreadcrumbItem> items = new ArrayList<>();
+    private List<BreadcrumbItem> items = new ArrayList<>();
 
     public Breadcrumb() {
         super("nav");
@@ -29,11 +31,13 @@ public class Breadcrumb extends HtmlTag {
     }
 
     public Breadcrumb addItem(String text, String href) {
+        markChanged();
         items.add(new BreadcrumbItem(text, href, false));
         return this;
     }
 
     public Breadcrumb addActiveItem(String text) {
+        markChanged();
         items.add(new BreadcrumbItem(text, null, true));
         return this;
     }
@@ -52,7 +56,12 @@ public class Breadcrumb extends HtmlTag {
         return Stream.concat(Stream.of(ol), super.getChildrenStream());
     }
 
-    private static class BreadcrumbItem implements Component {
+    @Override
+    protected void cloneState(CloneContext context) {
+        items = context.copyAll(items);
+    }
+
+    private static class BreadcrumbItem implements ImmutableComponent {
         private final String text;
         private final String href;
         private final boolean active;
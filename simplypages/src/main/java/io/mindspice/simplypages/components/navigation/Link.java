@@ -101,6 +101,7 @@ public class Link extends HtmlTag {
      * @throws IllegalArgumentException when href scheme is disallowed
      */
     public Link withHref(String href) {
+        markChanged();
         validateUrl(href);
         this.href = href;
         this.withAttribute("href", href);
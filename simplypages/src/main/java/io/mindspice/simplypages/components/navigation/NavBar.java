@@ -1,7 +1,8 @@
 package io.mindspice.simplypages.components.navigation;
 
-import io.mindspice.simplypages.core.Component;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.MutableComponent;
 import io.mindspice.simplypages.core.RenderContext;
 import org.owasp.encoder.Encode;
 
@@ -12,7 +13,7 @@ import org.owasp.encoder.Encode;
  */
 public class NavBar extends HtmlTag {
 
-    private final HtmlTag itemsContainer;
+    private HtmlTag itemsContainer;
     private HtmlTag brandDiv;
 
     public NavBar() {
@@ -32,6 +33,7 @@ public class NavBar extends HtmlTag {
     }
 
     public NavBar withBrand(String brand) {
+        markChanged();
         if (brandDiv == null) {
             brandDiv = new HtmlTag("div")
                 .withAttribute("class", "navbar-brand")
@@ -78,9 +80,15 @@ public class NavBar extends HtmlTag {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        itemsContainer = context.copy(itemsContainer);
+        brandDiv = context.copy(brandDiv);
+    }
+
     // Removed getChildrenStream override
 
-    public static class NavItem implements Component {
+    public static class NavItem extends MutableComponent {
         private final String text;
         private final String href;
         private final boolean active;
@@ -99,16 +107,19 @@ public class NavBar extends HtmlTag {
         }
 
         public NavItem withHxGet(String url) {
+            markChanged();
             this.hxGet = url;
             return this;
         }
 
         public NavItem withHxTarget(String target) {
+            markChanged();
             this.hxTarget = target;
             return this;
         }
 
         public NavItem withHxPushUrl() {
+            markChanged();
             this.hxPushUrl = true;
             return this;
         }
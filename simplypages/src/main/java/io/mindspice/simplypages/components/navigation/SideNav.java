@@ -1,7 +1,8 @@
 package io.mindspice.simplypages.components.navigation;
 
-import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
+import io.mindspice.simplypages.core.ImmutableComponent;
+import io.mindspice.simplypages.core.MutableComponent;
 import io.mindspice.simplypages.core.RenderContext;
 import org.owasp.encoder.Encode;
 
@@ -49,7 +50,7 @@ public class SideNav extends HtmlTag {
 
     // Removed getChildrenStream override. We just add items/sections as children directly.
 
-    public static class NavItem implements Component {
+    public static class NavItem extends MutableComponent {
         private final String text;
         private final String href;
         private final boolean active;
@@ -65,21 +66,25 @@ public class SideNav extends HtmlTag {
         }
 
         public NavItem withIcon(String icon) {
+            markChanged();
             this.icon = icon;
             return this;
         }
 
         public NavItem withHxGet(String url) {
+            markChanged();
             this.hxGet = url;
             return this;
         }
 
         public NavItem withHxTarget(String target) {
+            markChanged();
             this.hxTarget = target;
             return this;
         }
 
         public NavItem withHxPushUrl() {
+            markChanged();
             this.hxPushUrl = true;
             return this;
         }
@@ -121,7 +126,7 @@ public class SideNav extends HtmlTag {
         }
     }
 
-    public static class Section implements Component {
+    public static class Section implements ImmutableComponent {
         private final String title;
 
         public Section(String title) {
@@ -1,17 +1,51 @@
 package io.mindspice.simplypages.core;
 
-import org.owasp.encoder.Encode;
+import java.util.Objects;
 
 /**
  * Immutable HTML attribute pair used by {@link HtmlTag}.
  *
  * <p>Security boundary: {@link #render()} escapes non-empty values with
- * {@link Encode#forHtmlAttribute(String)}. Empty or {@code null} values render as boolean
+ * {@link HtmlEscaper#forHtmlAttribute(String)}. Empty or {@code null} values render as boolean
  * attributes.</p>
  *
- * <p>Mutability/thread-safety: immutable and thread-safe.</p>
+ * <p>Rendering: the escaped {@code  name="value"} form is computed on first {@link #render()} and
+ * reused afterwards, so attributes shared across renders, clones, and templates are escaped
+ * once.</p>
+ *
+ * <p>Mutability/thread-safety: immutable and thread-safe. The rendered form is cached with a
+ * benign race; concurrent first renders may each compute the same string.</p>
  */
-public record Attribute(String name, String value) {
+public final class Attribute {
+    private final String name;
+    private final String value;
+    /** Lazily computed output of {@link #render()}. */
+    private String rendered;
+
+    /**
+     * Creates an attribute pair.
+     *
+     * @param name attribute name
+     * @param value attribute value; {@code null} or empty renders as a boolean attribute
+     */
+    public Attribute(String name, String value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    /**
+     * Returns the attribute name.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the raw, unescaped attribute value.
+     */
+    public String value() {
+        return value;
+    }
 
     /**
      * Renders this attribute for insertion into an opening tag.
@@ -19,9 +53,30 @@ public record Attribute(String name, String value) {
      * @return leading-space-prefixed attribute text
      */
     public String render() {
-        if (value == null || value.isEmpty()) {
-            return " " + name;
+        String html = rendered;
+        if (html == null) {
+            html = (value == null || value.isEmpty())
+                    ? " " + name
+                    : " " + name + "=\"" + HtmlEscaper.forHtmlAttribute(value) + "\"";
+            rendered = html;
         }
-        return String.format(" %s=\"%s\"", name, Encode.forHtmlAttribute(value));
+        return html;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Attribute other
+                && Objects.equals(name, other.name)
+                && Objects.equals(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(name) + Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Attribute[name=" + name + ", value=" + value + "]";
     }
 }
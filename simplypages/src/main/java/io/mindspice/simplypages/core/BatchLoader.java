@@ -0,0 +1,227 @@
+package io.mindspice.simplypages.core;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Key-based loader whose lookups are batched across a whole component tree.
+ *
+ * <p>Components that each need the same kind of lookup (author names for posts and comments,
+ * permissions per module) place a {@link #slot(Object, Function)} in the tree instead of fetching
+ * eagerly. {@link #prefetch(RenderContext, Component)} walks the tree, collects every slot key per
+ * loader, calls each loader's batch function once with all of them, and stores the results in the
+ * context; the slots then render from those results.</p>
+ *
+ * <pre>{@code
+ * static final BatchLoader<Long, User> USERS = BatchLoader.of("users", userService::findAllById);
+ *
+ * for (Post post : posts) {
+ *     list.withChild(new Div().withChild(USERS.slot(post.authorId(), User::displayName)));
+ * }
+ * RenderContext ctx = RenderContext.empty();
+ * BatchLoader.prefetch(ctx, page);   // one findAllById call
+ * return page.render(ctx);
+ * }</pre>
+ *
+ * <p>Collection: tags are walked through {@link HtmlTag#getChildrenStream()}; modules are built
+ * first, as during template compilation. Slots the walk cannot reach (held in custom fields) still
+ * render correctly, loading their own key individually.</p>
+ *
+ * <p>Mutability/thread-safety: immutable and thread-safe; the batch function must be thread-safe
+ * when the loader is used by concurrent requests. Loaded values live in the render context.</p>
+ *
+ * @param <K> lookup key type
+ * @param <V> loaded value type
+ */
+public final class BatchLoader<K, V> {
+
+    /** Distinguishes loaders that share a name. */
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final String name;
+    private final Function<? super Set<K>, ? extends Map<K, ? extends V>> batchFunction;
+    /** Context slot holding keys loaded so far and their values; absent keys map to {@code null}. */
+    private final SlotKey<Map<K, V>> resultsKey;
+
+    private BatchLoader(String name, Function<? super Set<K>, ? extends Map<K, ? extends V>> batchFunction) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.resultsKey = SlotKey.of("batch:" + name + "#" + SEQUENCE.incrementAndGet());
+    }
+
+    /**
+     * Creates a loader.
+     *
+     * @param name descriptive name
+     * @param batchFunction loads all requested keys at once; keys missing from the result render as absent
+     */
+    public static <K, V> BatchLoader<K, V> of(String name, Function<? super Set<K>, ? extends Map<K, ? extends V>> batchFunction) {
+        return new BatchLoader<>(Objects.requireNonNull(name, "name cannot be null"),
+            Objects.requireNonNull(batchFunction, "batchFunction cannot be null"));
+    }
+
+    /**
+     * Returns the loader name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a component that renders {@code view} applied to the value loaded for {@code key}.
+     *
+     * <p>The view result renders like a slot value: components render, {@link SafeHtml} is inserted
+     * verbatim, anything else is escaped. Missing values render as empty.</p>
+     */
+    public Component slot(K key, Function<? super V, ?> view) {
+        return new BatchSlot<>(this, Objects.requireNonNull(key, "key cannot be null"),
+            Objects.requireNonNull(view, "view cannot be null"));
+    }
+
+    /**
+     * Returns the value for {@code key}, loading it alone when no prefetch covered it.
+     */
+    public V get(RenderContext context, K key) {
+        Map<K, V> results = context.get(resultsKey).orElse(null);
+        if (results != null && results.containsKey(key)) {
+            return results.get(key);
+        }
+        Set<K> single = Set.of(key);
+        Map<K, V> loaded = load(single);
+        if (!context.isShared()) {
+            store(context, results, single, loaded);
+        }
+        return loaded.get(key);
+    }
+
+    /**
+     * Batch-loads every loader slot reachable from {@code root} into {@code context}.
+     */
+    public static void prefetch(RenderContext context, Component root) {
+        Collector collector = new Collector();
+        collector.visit(root);
+        collector.load(context);
+    }
+
+    /**
+     * Batch-loads every loader slot reachable from {@code template}'s dynamic components and from
+     * component values already in {@code context}.
+     */
+    public static void prefetch(RenderContext context, Template template) {
+        Collector collector = new Collector();
+        template.forEachDynamicComponent(collector::visit);
+        context.getEntries().values().forEach(entry -> {
+            if (entry instanceof SlotEntry.LiveEntry live && live.value() instanceof Component component) {
+                collector.visit(component);
+            }
+        });
+        collector.load(context);
+    }
+
+    private Map<K, V> load(Set<K> keys) {
+        Map<K, ? extends V> loaded = batchFunction.apply(keys);
+        return loaded == null ? Map.of() : new HashMap<>(loaded);
+    }
+
+    /**
+     * Loads the keys not yet present in {@code context} with one batch call.
+     */
+    private void loadMissing(RenderContext context, Set<K> keys) {
+        Map<K, V> results = context.get(resultsKey).orElse(null);
+        Set<K> missing = new LinkedHashSet<>(keys);
+        if (results != null) {
+            missing.removeAll(results.keySet());
+        }
+        if (!missing.isEmpty()) {
+            store(context, results, missing, load(Set.copyOf(missing)));
+        }
+    }
+
+    /**
+     * Adds the requested keys to {@code context}'s own results map, creating it on the first write.
+     *
+     * <p>A map created by this context is updated in place, so a render issuing one load per miss
+     * stays linear. A map found on a parent context may be shared with other renders and is only
+     * copied into a new map owned by {@code context}, never modified.</p>
+     */
+    private void store(RenderContext context, Map<K, V> results, Set<K> requested, Map<K, V> loaded) {
+        Results<K, V> own;
+        if (results instanceof Results<K, V> local && local.owner == context) {
+            own = local;
+        } else {
+            own = new Results<>(context, results);
+            context.put(resultsKey, own);
+        }
+        for (K key : requested) {
+            own.put(key, loaded.get(key));
+        }
+    }
+
+    /**
+     * Results map owned by one non-shared context; only {@link #store} writes it.
+     */
+    private static final class Results<K, V> extends HashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient RenderContext owner;
+
+        Results(RenderContext owner, Map<K, V> inherited) {
+            super(inherited == null ? Map.of() : inherited);
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Component rendering one loaded value.
+     */
+    private static final class BatchSlot<K, V> implements Component {
+        private final BatchLoader<K, V> loader;
+        private final K key;
+        private final Function<? super V, ?> view;
+
+        BatchSlot(BatchLoader<K, V> loader, K key, Function<? super V, ?> view) {
+            this.loader = loader;
+            this.key = key;
+            this.view = view;
+        }
+
+        @Override
+        public String render(RenderContext context) {
+            V value = loader.get(context, key);
+            return value == null ? "" : Template.renderValue(view.apply(value), context);
+        }
+    }
+
+    /**
+     * First-pass tree walk grouping slot keys by loader.
+     */
+    private static final class Collector {
+        private final Map<BatchLoader<?, ?>, Set<Object>> keysByLoader = new IdentityHashMap<>();
+
+        void visit(Component component) {
+            switch (component) {
+                case BatchSlot<?, ?> slot -> keysByLoader.computeIfAbsent(slot.loader, loader -> new HashSet<>()).add(slot.key);
+                case HtmlTag tag when tag.frozenHtml() != null -> { }
+                case HtmlTag tag -> {
+                    if (tag instanceof Module module) {
+                        module.build();
+                    }
+                    tag.getChildrenStream().forEach(this::visit);
+                }
+                default -> { }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void load(RenderContext context) {
+            keysByLoader.forEach((loader, keys) -> ((BatchLoader<Object, ?>) loader).loadMissing(context, keys));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.mindspice.simplypages.core;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Modules whose cached render output depends on one tag or {@link MutableComponent}.
+ *
+ * <p>Lifecycle: a {@link Module} registers itself on every node of its subtree when it caches
+ * output; the node's next change drains the list and invalidates each registered cache, so a
+ * cache hit never has to inspect the subtree. Entries hold modules weakly and carry the cache
+ * generation they were registered for; entries of discarded modules or of superseded
+ * generations are dropped instead of invalidating anything.</p>
+ *
+ * <p>Mutability/thread-safety: thread-safe. Sibling modules rendered in parallel may register on
+ * a shared node concurrently.</p>
+ */
+final class CacheWatchers {
+    /** Registered module caches. */
+    private List<Entry> entries = new ArrayList<>(2);
+
+    /**
+     * Registers {@code module}'s cache {@code generation}, replacing older entries for the module.
+     */
+    synchronized void add(Module module, long generation) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            Module registered = entries.get(i).module().get();
+            if (registered == null || registered == module || !registered.isCacheGeneration(entries.get(i).generation())) {
+                entries.remove(i);
+            }
+        }
+        entries.add(new Entry(new WeakReference<>(module), generation));
+    }
+
+    /**
+     * Invalidates and forgets every registered cache.
+     */
+    void fire() {
+        List<Entry> drained;
+        synchronized (this) {
+            if (entries.isEmpty()) {
+                return;
+            }
+            drained = entries;
+            entries = new ArrayList<>(2);
+        }
+        for (Entry entry : drained) {
+            Module module = entry.module().get();
+            if (module != null) {
+                module.invalidateCache(entry.generation());
+            }
+        }
+    }
+
+    private record Entry(WeakReference<Module> module, long generation) { }
+}
@@ -0,0 +1,89 @@
+package io.mindspice.simplypages.core;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-call state for {@link HtmlTag#cloneTree()}.
+ *
+ * <p>Tracks source-to-copy identity so a node referenced both from a children list and from a
+ * subclass field is cloned once and both references resolve to the same copy.</p>
+ *
+ * <p>Copy policy: {@link HtmlTag} and {@link MutableComponent} instances are cloned; every other
+ * {@link Component} is treated as an immutable leaf and shared by reference. Frozen tags and
+ * components are shared as immutable subtrees unless the pass started from a frozen root, in which
+ * case they are thawed into mutable copies.</p>
+ *
+ * <p>Mutability/thread-safety: mutable and not thread-safe. Instances live only for the duration
+ * of one {@link HtmlTag#cloneTree()} call.</p>
+ */
+public final class CloneContext {
+    /** Copies created during this clone pass, keyed by source identity. */
+    private final Map<Component, Component> copies = new IdentityHashMap<>();
+    /** When true, frozen tags are copied as mutable tags instead of being shared. */
+    private final boolean thawFrozen;
+
+    /**
+     * Creates an empty clone pass.
+     *
+     * @param thawFrozen whether frozen tags are copied rather than shared
+     */
+    CloneContext(boolean thawFrozen) {
+        this.thawFrozen = thawFrozen;
+    }
+
+    /**
+     * Returns the copy of {@code component} for this clone pass.
+     *
+     * @param component source component; may be {@code null}
+     * @param <T> component type
+     * @return cloned tag or mutable component, shared leaf component, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Component> T copy(T component) {
+        if (component == null) {
+            return null;
+        }
+        Component existing = copies.get(component);
+        if (existing != null) {
+            return (T) existing;
+        }
+        if (component instanceof HtmlTag tag && (thawFrozen || !tag.isFrozen())) {
+            return (T) tag.copyTree(this);
+        }
+        if (component instanceof MutableComponent leaf && (thawFrozen || !leaf.isFrozen())) {
+            return (T) leaf.copyTree(this);
+        }
+        return component;
+    }
+
+    /**
+     * Returns a new mutable list whose component elements are copied via {@link #copy(Component)}.
+     *
+     * <p>Non-component elements are shared by reference and must be immutable values.</p>
+     *
+     * @param source source list; may be {@code null}
+     * @param <E> element type
+     * @return copied list, or {@code null} when {@code source} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <E> List<E> copyAll(List<E> source) {
+        if (source == null) {
+            return null;
+        }
+        List<E> copy = new ArrayList<>(source.size());
+        for (E element : source) {
+            copy.add(element instanceof Component component ? (E) copy(component) : element);
+        }
+        return copy;
+    }
+
+    /**
+     * Records {@code copy} as the clone of {@code source} before its subtree is visited.
+     */
+    void register(Component source, Component copy) {
+        copies.put(source, copy);
+    }
+}
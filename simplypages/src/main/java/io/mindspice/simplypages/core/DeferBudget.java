@@ -0,0 +1,126 @@
+package io.mindspice.simplypages.core;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-page render-time budget deciding which {@link Deferred} sections render inline.
+ *
+ * <p>The budget keeps a moving average of each section's measured render cost. Per request,
+ * {@link #attach(RenderContext)} stores a fresh {@link Page} in the context; each deferred section
+ * then renders inline while its estimate fits the page's remaining budget and becomes a placeholder
+ * otherwise. Sections with no measurement yet are deferred, so their first cost is learned from the
+ * endpoint callback rather than on the critical path. Attach the budget in the section endpoint as well so callbacks
+ * are measured.</p>
+ *
+ * <p>Page handlers ask before loading: {@link Page#fits(SlotKey)} answers without reserving, and
+ * {@link Deferred#reserveInline(RenderContext)} makes the section's once-per-page decision, so slow
+ * values are loaded only for sections that render inline.</p>
+ *
+ * <p>Mutability/thread-safety: the budget is thread-safe and meant to be shared; a {@link Page} is
+ * request-scoped and thread-safe, so sections rendered in parallel share it.</p>
+ */
+public final class DeferBudget {
+
+    /** Context slot holding the current request's page budget. */
+    public static final SlotKey<Page> PAGE = SlotKey.of("simplypages.deferBudget");
+
+    private final long pageNanos;
+    private final Map<SlotKey<?>, Long> estimates = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a budget allowing roughly {@code perPage} of inline section rendering per page.
+     *
+     * @throws IllegalArgumentException when {@code perPage} is negative
+     */
+    public DeferBudget(Duration perPage) {
+        Objects.requireNonNull(perPage, "perPage cannot be null");
+        if (perPage.isNegative()) {
+            throw new IllegalArgumentException("perPage cannot be negative");
+        }
+        this.pageNanos = perPage.toNanos();
+    }
+
+    /**
+     * Starts a page budget in {@code context} and returns the context.
+     */
+    public RenderContext attach(RenderContext context) {
+        return context.put(PAGE, new Page(this));
+    }
+
+    /**
+     * Records a measured section render; estimates are a moving average weighted toward recent runs.
+     */
+    public void record(SlotKey<?> key, long nanos) {
+        estimates.merge(key, nanos, (previous, sample) -> previous - (previous >> 2) + (sample >> 2));
+    }
+
+    /**
+     * Returns the estimated render cost of {@code key} in nanoseconds, or {@code -1} when unmeasured.
+     */
+    public long estimate(SlotKey<?> key) {
+        return estimates.getOrDefault(key, -1L);
+    }
+
+    /**
+     * Remaining inline budget for one page render.
+     */
+    public static final class Page {
+        private final DeferBudget budget;
+        private final Set<SlotKey<?>> reserved = new HashSet<>();
+        private long remaining;
+
+        private Page(DeferBudget budget) {
+            this.budget = budget;
+            this.remaining = budget.pageNanos;
+        }
+
+        /**
+         * Returns the owning budget.
+         */
+        public DeferBudget budget() {
+            return budget;
+        }
+
+        /**
+         * Returns whether {@code key} is already reserved or its estimate fits the remaining budget,
+         * without reserving anything.
+         */
+        public synchronized boolean fits(SlotKey<?> key) {
+            if (reserved.contains(key)) {
+                return true;
+            }
+            long estimate = budget.estimate(key);
+            return estimate >= 0 && estimate <= remaining;
+        }
+
+        /**
+         * Reserves budget for {@code key} when its estimate fits; a key is charged at most once.
+         *
+         * @return {@code true} when the section renders inline
+         */
+        synchronized boolean reserve(SlotKey<?> key) {
+            if (reserved.contains(key)) {
+                return true;
+            }
+            long estimate = budget.estimate(key);
+            if (estimate < 0 || estimate > remaining) {
+                return false;
+            }
+            remaining -= estimate;
+            reserved.add(key);
+            return true;
+        }
+
+        /**
+         * Returns the unreserved budget in nanoseconds.
+         */
+        public synchronized long remainingNanos() {
+            return remaining;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.mindspice.simplypages.core;
+
+import java.util.Objects;
+
+/**
+ * Slow page section rendered as an HTMX lazy-load placeholder and filled by a follow-up request.
+ *
+ * <p>First render: a lightweight {@code <div>} carrying {@code hx-get=endpoint},
+ * {@code hx-trigger="load"}, and {@code hx-swap="outerHTML"}, optionally wrapping a placeholder such
+ * as a {@code Spinner}. The endpoint handler answers with {@link #renderSection(RenderContext)}, which
+ * renders the slot value inside a {@code <div>} with the same id.</p>
+ *
+ * <pre>{@code
+ * static final Deferred ACTIVITY = Deferred.of(ACTIVITY_FEED, "/dashboard/activity")
+ *     .withPlaceholder(Spinner.create().small());
+ *
+ * // page handler: placeholder only, no feed lookup
+ * page.withChild(ACTIVITY);
+ *
+ * // GET /dashboard/activity
+ * return ACTIVITY.renderSection(RenderContext.of(ACTIVITY_FEED, feedService.load(user)));
+ * }</pre>
+ *
+ * <p>Budgeted inlining: when the context carries a {@link DeferBudget} page, sections whose slot
+ * value is present and whose measured cost fits the remaining budget render inline and the rest
+ * become placeholders. Page handlers call {@link #reserveInline(RenderContext)} before loading a
+ * section's value, so only sections that will render inline are loaded on the critical path. Inline
+ * and endpoint renders both feed the budget's cost measurements.</p>
+ *
+ * <p>Batched loading: sections registered with a {@link DeferredBatch} attached to the context
+ * render a plain placeholder instead, and the batch loads all of them in one request.</p>
+ *
+ * <p>Mutability/thread-safety: immutable; {@link #withPlaceholder(Component)} and
+ * {@link #withId(String)} return copies, so shared {@code static final} sections are safe to
+ * derive from. Rendering is thread-safe when the placeholder component is.</p>
+ */
+public final class Deferred implements Component {
+
+    private final SlotKey<?> key;
+    private final String endpoint;
+    private final String id;
+    private final Component placeholder;
+
+    private Deferred(SlotKey<?> key, String endpoint, String id, Component placeholder) {
+        this.key = key;
+        this.endpoint = endpoint;
+        this.id = id;
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * Creates a deferred section for {@code key} loaded from {@code endpoint}.
+     *
+     * @param key slot holding the section content when the section renders
+     * @param endpoint HTMX GET endpoint answering with {@link #renderSection(RenderContext)}
+     */
+    public static Deferred of(SlotKey<?> key, String endpoint) {
+        Objects.requireNonNull(key, "key cannot be null");
+        return new Deferred(key, Objects.requireNonNull(endpoint, "endpoint cannot be null"),
+            "deferred-" + key.name(), null);
+    }
+
+    /**
+     * Returns a copy showing {@code placeholder} until the section arrives, for example a
+     * {@code Spinner}.
+     */
+    public Deferred withPlaceholder(Component placeholder) {
+        return new Deferred(key, endpoint, id, placeholder);
+    }
+
+    /**
+     * Returns a copy using {@code id} for placeholder and section (default
+     * {@code deferred-<slot name>}).
+     */
+    public Deferred withId(String id) {
+        return new Deferred(key, endpoint, Objects.requireNonNull(id, "id cannot be null"), placeholder);
+    }
+
+    /**
+     * Returns the slot key rendered by this section.
+     */
+    public SlotKey<?> getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the callback endpoint.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns the element id shared by placeholder and section.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Decides whether this section renders inline on the page rendered with {@code context}, and
+     * reserves its estimated cost from the context's {@link DeferBudget} page if so.
+     *
+     * <p>Page handlers call this before loading the section's value and load it only on
+     * {@code true}. The decision is made once per page: repeated calls, and the render that
+     * follows, return the same answer without reserving again.</p>
+     *
+     * @return {@code true} when the section will render inline once its value is in {@code context}
+     */
+    public boolean reserveInline(RenderContext context) {
+        DeferBudget.Page page = context.get(DeferBudget.PAGE).orElse(null);
+        return page != null && page.reserve(key);
+    }
+
+    /**
+     * Renders the section inline when its slot value is present and the context's
+     * {@link DeferBudget} allows it, otherwise the
+     * placeholder, or a batch placeholder when the context's {@link DeferredBatch} owns this section.
+     */
+    @Override
+    public String render(RenderContext context) {
+        // Inline only when the handler loaded the value; otherwise the section must be fetched.
+        if (context.get(key).isPresent() && reserveInline(context)) {
+            return renderSection(context);
+        }
+        DeferredBatch.Page batch = context.get(DeferredBatch.PAGE).orElse(null);
+        if (batch != null && batch.add(this)) {
+            return renderBatchedPlaceholder(context);
+        }
+        return renderPlaceholder(context);
+    }
+
+    /**
+     * Renders the lazy-load placeholder.
+     */
+    public String renderPlaceholder(RenderContext context) {
+        HtmlTag tag = new HtmlTag("div")
+            .withAttribute("id", id)
+            .withAttribute("hx-get", endpoint)
+            .withAttribute("hx-trigger", "load")
+            .withAttribute("hx-swap", "outerHTML");
+        if (placeholder != null) {
+            tag.withChild(placeholder);
+        }
+        return tag.render(context);
+    }
+
+    /**
+     * Renders the placeholder without its own request; the owning {@link DeferredBatch} loads it.
+     */
+    String renderBatchedPlaceholder(RenderContext context) {
+        HtmlTag tag = new HtmlTag("div").withAttribute("id", id);
+        if (placeholder != null) {
+            tag.withChild(placeholder);
+        }
+        return tag.render(context);
+    }
+
+    /**
+     * Renders the section content for the placeholder callback, recording its cost with the
+     * context's {@link DeferBudget} when present.
+     */
+    public String renderSection(RenderContext context) {
+        return renderSection(context, false);
+    }
+
+    /**
+     * Renders the section content, marked for an out-of-band swap when {@code outOfBand} is set.
+     */
+    String renderSection(RenderContext context, boolean outOfBand) {
+        long start = System.nanoTime();
+        StringBuilder sb = new StringBuilder();
+        sb.append("<div id=\"").append(HtmlEscaper.forHtmlAttribute(id)).append('"');
+        if (outOfBand) {
+            sb.append(" hx-swap-oob=\"true\"");
+        }
+        sb.append('>');
+        context.get(key).ifPresent(value -> sb.append(Template.renderValue(value, context)));
+        sb.append("</div>");
+        context.get(DeferBudget.PAGE).ifPresent(page -> page.budget().record(key, System.nanoTime() - start));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,246 @@
+package io.mindspice.simplypages.core;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads many {@link Deferred} sections of one page with a single HTMX request.
+ *
+ * <p>Without batching, each deferred section fires its own {@code hx-trigger="load"} request and
+ * pays routing, auth, and context setup once per section. With a batch attached to the page
+ * context, registered sections render plain placeholders and record their ids; {@link #trigger()},
+ * placed after them, renders one loader element requesting {@code endpoint?ids=a,b,c}. The endpoint
+ * answers with {@link #renderFragments(String, RenderContext)}: every requested section rendered as
+ * an {@code hx-swap-oob} fragment replacing its placeholder by id.</p>
+ *
+ * <pre>{@code
+ * static final DeferredBatch SECTIONS = DeferredBatch.of("/dashboard/sections", ACTIVITY, STATS, ALERTS);
+ *
+ * // page handler
+ * page.withChild(ACTIVITY).withChild(STATS).withChild(ALERTS).withChild(SECTIONS.trigger());
+ * return page.render(SECTIONS.attach(ctx));
+ *
+ * // GET /dashboard/sections?ids=...
+ * return SECTIONS.renderFragments(ids, dashboardContext(user));
+ * }</pre>
+ *
+ * <p>Fragments render in parallel on virtual threads, each into its own {@link RenderContext#overlay()}
+ * of the endpoint context; the endpoint context must not be mutated while rendering. Sections inlined
+ * by a {@link DeferBudget} are not batched. Unknown ids are ignored.</p>
+ *
+ * <p>Trigger ordering: the trigger closes the page's id list when it renders. A batched section
+ * rendering after it fails with {@link IllegalStateException} instead of silently missing from
+ * the request, so with {@link ParallelRenderer} or other parallel renders keep the trigger out of
+ * the parallel part, after every section.</p>
+ *
+ * <p>Mutability/thread-safety: immutable after construction and thread-safe; a {@link Page} is
+ * request-scoped and thread-safe, so sections rendered in parallel may register concurrently.</p>
+ */
+public final class DeferredBatch {
+
+    /** Context slot holding the current request's batch page. */
+    public static final SlotKey<Page> PAGE = SlotKey.of("simplypages.deferredBatch");
+
+    /** Query parameter carrying the requested section ids. */
+    public static final String IDS_PARAM = "ids";
+
+    /** Starts each fragment render on a fresh virtual thread. */
+    private static final Executor VIRTUAL = task -> Thread.ofVirtual().name("deferred-batch").start(task);
+
+    private final String endpoint;
+    private final Map<String, Deferred> sections;
+
+    private DeferredBatch(String endpoint, Map<String, Deferred> sections) {
+        this.endpoint = endpoint;
+        this.sections = sections;
+    }
+
+    /**
+     * Creates a batch for {@code sections} loaded from {@code endpoint}.
+     *
+     * @throws IllegalArgumentException when two sections share an id
+     */
+    public static DeferredBatch of(String endpoint, Deferred... sections) {
+        Objects.requireNonNull(endpoint, "endpoint cannot be null");
+        Map<String, Deferred> byId = new LinkedHashMap<>();
+        for (Deferred section : sections) {
+            Objects.requireNonNull(section, "section cannot be null");
+            if (byId.putIfAbsent(section.getId(), section) != null) {
+                throw new IllegalArgumentException("Duplicate deferred section id: " + section.getId());
+            }
+        }
+        return new DeferredBatch(endpoint, byId);
+    }
+
+    /**
+     * Returns the batch endpoint.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns whether {@code section} belongs to this batch.
+     */
+    public boolean contains(Deferred section) {
+        return sections.get(section.getId()) == section;
+    }
+
+    /**
+     * Starts a batch page in {@code context} and returns the context.
+     */
+    public RenderContext attach(RenderContext context) {
+        return context.put(PAGE, new Page(this));
+    }
+
+    /**
+     * Returns the loader element for the sections rendered before it.
+     *
+     * <p>Place it after every batched section; it renders nothing when no section was deferred.
+     * Sections of this batch rendering after it on the same page fail, see {@link Page#add(Deferred)}.</p>
+     */
+    public Component trigger() {
+        return new Component() {
+            @Override
+            public String render(RenderContext context) {
+                return context.get(PAGE)
+                    .filter(page -> page.batch == DeferredBatch.this)
+                    .map(Page::close)
+                    .filter(ids -> !ids.isEmpty())
+                    .map(ids -> new HtmlTag("div")
+                        .withAttribute("hx-get", requestUrl(ids))
+                        .withAttribute("hx-trigger", "load")
+                        .withAttribute("hx-swap", "none")
+                        .render(context))
+                    .orElse("");
+            }
+        };
+    }
+
+    /**
+     * Renders the sections listed in an {@code ids} parameter value as out-of-band fragments.
+     *
+     * @param ids comma-separated section ids, may be {@code null}
+     * @param context endpoint context holding the section slot values
+     */
+    public String renderFragments(String ids, RenderContext context) {
+        return renderFragments(parseIds(ids), context);
+    }
+
+    /**
+     * Renders the requested sections in parallel as out-of-band fragments, in request order.
+     *
+     * @param ids requested section ids; unknown ids are skipped
+     * @param context endpoint context holding the section slot values
+     */
+    public String renderFragments(Collection<String> ids, RenderContext context) {
+        Objects.requireNonNull(context, "context cannot be null");
+        List<Deferred> requested = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            Deferred section = sections.get(id);
+            if (section != null) {
+                requested.add(section);
+            }
+        }
+        if (requested.size() == 1) {
+            return requested.getFirst().renderSection(context.overlay(), true);
+        }
+
+        List<CompletableFuture<String>> fragments = new ArrayList<>(requested.size());
+        for (Deferred section : requested) {
+            fragments.add(CompletableFuture.supplyAsync(() -> section.renderSection(context.overlay(), true), VIRTUAL));
+        }
+        StringBuilder sb = new StringBuilder();
+        for (CompletableFuture<String> fragment : fragments) {
+            sb.append(fragment.join());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Splits a comma-separated {@code ids} parameter value, dropping blanks and duplicates.
+     */
+    public static List<String> parseIds(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return List.of();
+        }
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String id : ids.split(",")) {
+            String trimmed = id.strip();
+            if (!trimmed.isEmpty()) {
+                parsed.add(trimmed);
+            }
+        }
+        return List.copyOf(parsed);
+    }
+
+    private String requestUrl(Collection<String> ids) {
+        String query = URLEncoder.encode(String.join(",", ids), StandardCharsets.UTF_8);
+        return endpoint + (endpoint.indexOf('?') < 0 ? '?' : '&') + IDS_PARAM + "=" + query;
+    }
+
+    /**
+     * Section ids deferred during one page render.
+     */
+    public static final class Page {
+        private final DeferredBatch batch;
+        /** Guarded by {@code this}; sections may register from parallel renders. */
+        private final Set<String> ids = new LinkedHashSet<>();
+        private boolean closed;
+
+        private Page(DeferredBatch batch) {
+            this.batch = batch;
+        }
+
+        /**
+         * Returns the owning batch.
+         */
+        public DeferredBatch batch() {
+            return batch;
+        }
+
+        /**
+         * Records {@code section} for the batch request when the batch owns it.
+         *
+         * @return {@code true} when the section is loaded by the batch
+         * @throws IllegalStateException when the batch trigger already rendered on this page
+         */
+        public synchronized boolean add(Deferred section) {
+            if (!batch.contains(section)) {
+                return false;
+            }
+            if (closed) {
+                throw new IllegalStateException("Deferred section " + section.getId()
+                    + " rendered after its batch trigger; place the trigger after every batched section");
+            }
+            ids.add(section.getId());
+            return true;
+        }
+
+        /**
+         * Returns a snapshot of the section ids recorded so far, in render order.
+         */
+        public synchronized Set<String> ids() {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(ids));
+        }
+
+        /**
+         * Stops accepting sections and returns the recorded ids; called when the trigger renders.
+         */
+        private synchronized Set<String> close() {
+            closed = true;
+            return ids();
+        }
+    }
+}
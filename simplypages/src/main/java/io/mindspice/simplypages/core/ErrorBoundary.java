@@ -0,0 +1,184 @@
+package io.mindspice.simplypages.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Contains render failures of one page region and serves its last successful output instead.
+ *
+ * <p>Without a boundary, an exception from a module's {@link Module#buildContent()} or from a slot
+ * component fails the whole page render. A boundary catches the failure, reports it to its
+ * {@link Listener}, and returns the last HTML the region rendered successfully, so a failing widget
+ * costs one cache lookup instead of a failed page:</p>
+ *
+ * <pre>{@code
+ * ErrorBoundary boundary = ErrorBoundary.create()
+ *     .withFallback(Alert.warning("Prices are temporarily unavailable."))
+ *     .withListener((context, error, servedLastGood) -> log.warn("price widget failed", error));
+ *
+ * pricesModule.withErrorBoundary(boundary);           // a module
+ * Component sidebar = boundary.guard(sidebarContent); // any region
+ * }</pre>
+ *
+ * <p>Last-good cache: by default one entry per boundary, recorded only from renders that read no
+ * context values, so slot-dependent output is never served to another request. A region whose
+ * output depends on the context (for example a slot holding the user id) keeps last-good output
+ * only when keyed with {@link #withCacheKey(Function)}. The cache is bounded
+ * ({@link #withCacheSize(int)}, default 16) and evicts least recently used keys. When no entry
+ * exists yet, the fallback is rendered instead.</p>
+ *
+ * <p>Served replacements (last-good or fallback) mark the render uncacheable, so an enclosing
+ * {@link Module} never caches them.</p>
+ *
+ * <p>{@link RenderBudget.ExceededException} is not a failure and passes through, so budget
+ * boundaries still apply.</p>
+ *
+ * <p>Mutability/thread-safety: configure once before rendering. Rendering is thread-safe; a
+ * boundary holds the cache for one region, so use a separate boundary per region.</p>
+ */
+public final class ErrorBoundary {
+
+    private static final Object SINGLE_KEY = new Object();
+
+    private String fallbackHtml = "";
+    private Listener listener = (context, error, servedLastGood) -> { };
+    private Function<? super RenderContext, ?> cacheKey;
+    private Map<Object, String> lastGood = newCache(16);
+
+    private ErrorBoundary() {
+    }
+
+    /**
+     * Creates a boundary with an empty fallback and a listener that ignores errors.
+     */
+    public static ErrorBoundary create() {
+        return new ErrorBoundary();
+    }
+
+    /**
+     * Sets the component rendered when a failure has no last-good output (default: nothing).
+     *
+     * <p>The fallback is rendered once, here, with an empty context; it cannot depend on slots.</p>
+     */
+    public ErrorBoundary withFallback(Component fallback) {
+        this.fallbackHtml = Objects.requireNonNull(fallback, "fallback cannot be null").render(RenderContext.empty());
+        return this;
+    }
+
+    /**
+     * Sets the listener notified of every caught failure.
+     */
+    public ErrorBoundary withListener(Listener listener) {
+        this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+        return this;
+    }
+
+    /**
+     * Keys last-good output by the value {@code key} derives from the render context.
+     *
+     * <p>Required for last-good output of regions that read slots. The key should be cheap to
+     * compute, must have value equality, and must cover every context value the output depends on.
+     * A {@code null} key disables caching for that render.</p>
+     */
+    public ErrorBoundary withCacheKey(Function<? super RenderContext, ?> key) {
+        this.cacheKey = Objects.requireNonNull(key, "key cannot be null");
+        return this;
+    }
+
+    /**
+     * Bounds the number of last-good entries kept (default 16) and clears existing entries.
+     *
+     * @throws IllegalArgumentException when {@code size} is less than 1
+     */
+    public ErrorBoundary withCacheSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("cache size must be at least 1");
+        }
+        this.lastGood = newCache(size);
+        return this;
+    }
+
+    /**
+     * Wraps {@code content} in this boundary.
+     */
+    public Component guard(Component content) {
+        Objects.requireNonNull(content, "content cannot be null");
+        return new Component() {
+            @Override
+            public String render(RenderContext context) {
+                return ErrorBoundary.this.render(context, content::render);
+            }
+        };
+    }
+
+    /**
+     * Drops all last-good output, for example after a deployment changes the region's markup.
+     */
+    public void clear() {
+        synchronized (lastGood) {
+            lastGood.clear();
+        }
+    }
+
+    /**
+     * Renders through {@code renderer}, recording successful output and serving it on failure.
+     */
+    String render(RenderContext context, Function<RenderContext, String> renderer) {
+        Object key = cacheKey != null ? cacheKey.apply(context) : SINGLE_KEY;
+        int reads = context.readCount();
+        String html;
+        try {
+            html = renderer.apply(context);
+        } catch (RenderBudget.ExceededException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            return recover(context, key, e);
+        }
+        // Without an explicit key only slot-independent output is safe to share across requests.
+        boolean shareable = cacheKey != null || (!context.isShared() && context.readCount() == reads);
+        if (key != null && shareable) {
+            synchronized (lastGood) {
+                lastGood.put(key, html);
+            }
+        }
+        return html;
+    }
+
+    private String recover(RenderContext context, Object key, RuntimeException error) {
+        String html = null;
+        if (key != null) {
+            synchronized (lastGood) {
+                html = lastGood.get(key);
+            }
+        }
+        context.markUncacheable();
+        listener.onError(context, error, html != null);
+        return html != null ? html : fallbackHtml;
+    }
+
+    private static Map<Object, String> newCache(int size) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, String> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * Receives failures caught by an {@link ErrorBoundary}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called on the rendering thread after a failure, before the replacement is returned.
+         *
+         * @param servedLastGood {@code true} when last-good output replaces the region,
+         *                       {@code false} when the fallback does
+         */
+        void onError(RenderContext context, RuntimeException error, boolean servedLastGood);
+    }
+}
@@ -0,0 +1,85 @@
+package io.mindspice.simplypages.core;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of shared, frozen component instances keyed by their construction parameters.
+ *
+ * <p>Small leaf components (icons, badges, spacers) often appear thousands of times per page with
+ * a handful of parameter combinations. A flyweight cache builds each combination once, freezes it
+ * (see {@link HtmlTag#freeze()}), and hands out the same instance afterwards, so rendering it is a
+ * single copy of memoized HTML and {@link Template} compiles it as a static segment:</p>
+ *
+ * <pre>{@code
+ * private static final FlyweightCache<Key, Badge> SHARED =
+ *     FlyweightCache.create(256, key -> Badge.create(key.text()).withStyle(key.style()));
+ *
+ * public static Badge shared(String text, BadgeStyle style) {
+ *     return SHARED.get(new Key(text, style));
+ * }
+ * }</pre>
+ *
+ * <p>Bound: once {@code maxEntries} keys are cached, further keys still return a frozen instance
+ * but it is built per call and not retained, so keys derived from unbounded input (user text)
+ * cannot grow the cache without limit.</p>
+ *
+ * <p>Mutability/thread-safety: thread-safe. Returned instances are frozen; mutators that would
+ * change them throw {@link IllegalStateException}. Call {@link HtmlTag#cloneTree()} for an editable
+ * copy.</p>
+ *
+ * @param <K> key type with value equality
+ * @param <T> cached tag type
+ */
+public final class FlyweightCache<K, T extends HtmlTag> {
+
+    private final ConcurrentHashMap<K, T> instances = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Function<? super K, ? extends T> factory;
+
+    private FlyweightCache(int maxEntries, Function<? super K, ? extends T> factory) {
+        this.maxEntries = maxEntries;
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a cache retaining at most {@code maxEntries} instances built by {@code factory}.
+     *
+     * @throws IllegalArgumentException when {@code maxEntries} is negative
+     */
+    public static <K, T extends HtmlTag> FlyweightCache<K, T> create(int maxEntries, Function<? super K, ? extends T> factory) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries cannot be negative");
+        }
+        return new FlyweightCache<>(maxEntries, Objects.requireNonNull(factory, "factory cannot be null"));
+    }
+
+    /**
+     * Returns the shared frozen instance for {@code key}, building it on first use.
+     */
+    public T get(K key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        T instance = instances.get(key);
+        if (instance != null) {
+            return instance;
+        }
+        if (instances.size() >= maxEntries) {
+            return build(key);
+        }
+        return instances.computeIfAbsent(key, this::build);
+    }
+
+    /**
+     * Returns the number of retained instances.
+     */
+    public int size() {
+        return instances.size();
+    }
+
+    private T build(K key) {
+        T instance = factory.apply(key);
+        instance.freeze();
+        return instance;
+    }
+}
@@ -0,0 +1,194 @@
+package io.mindspice.simplypages.core;
+
+/**
+ * HTML text and attribute escaper with a no-copy fast path.
+ *
+ * <p>Output is character-for-character identical to OWASP {@code Encode.forHtml} and
+ * {@code Encode.forHtmlAttribute}: {@code & < > " '} become entities ({@code >} is left as-is in
+ * attributes), and characters that are invalid in HTML/XML (C0/C1 controls other than tab, newline,
+ * carriage return, and NEL; unpaired surrogates; Unicode noncharacters) become a single space.</p>
+ *
+ * <p>Fast path: a table-driven scan finds the first character needing work. When there is none,
+ * the input string itself is returned without allocation, which is the common case for text and
+ * attribute values.</p>
+ *
+ * <p>Mutability/thread-safety: stateless and thread-safe.</p>
+ */
+public final class HtmlEscaper {
+    private static final byte SAFE = 0;
+    private static final byte ENTITY = 1;
+    private static final byte INVALID = 2;
+
+    /** Table size; every char at or above this bound and below the surrogate range is safe. */
+    private static final int TABLE_SIZE = 0xA0;
+
+    private static final byte[] TEXT = new byte[TABLE_SIZE];
+    private static final byte[] ATTRIBUTE = new byte[TABLE_SIZE];
+
+    static {
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            boolean control = c < 0x20 || (c >= 0x7F && c <= 0x9F);
+            if (control && c != '\t' && c != '\n' && c != '\r' && c != 0x85) {
+                TEXT[c] = INVALID;
+                ATTRIBUTE[c] = INVALID;
+            }
+        }
+        for (char c : new char[]{'&', '<', '>', '"', '\''}) {
+            TEXT[c] = ENTITY;
+            ATTRIBUTE[c] = ENTITY;
+        }
+        ATTRIBUTE['>'] = SAFE;
+    }
+
+    private HtmlEscaper() { }
+
+    /**
+     * Escapes text for an HTML element body.
+     *
+     * @param text raw text; {@code null} yields {@code "null"} like the OWASP encoder
+     * @return escaped text, or {@code text} itself when nothing needed escaping
+     */
+    public static String forHtml(String text) {
+        return escape(text, TEXT);
+    }
+
+    /**
+     * Escapes a value for a quoted HTML attribute.
+     *
+     * @param value raw value; {@code null} yields {@code "null"} like the OWASP encoder
+     * @return escaped value, or {@code value} itself when nothing needed escaping
+     */
+    public static String forHtmlAttribute(String value) {
+        return escape(value, ATTRIBUTE);
+    }
+
+    /**
+     * Appends {@link #forHtml(String)} output to {@code sb} without an intermediate string.
+     *
+     * @param sb destination buffer
+     * @param text raw text; {@code null} appends {@code "null"}
+     */
+    public static void appendHtml(StringBuilder sb, String text) {
+        if (text == null) {
+            sb.append("null");
+            return;
+        }
+        int first = firstUnsafe(text, TEXT);
+        if (first == text.length()) {
+            sb.append(text);
+            return;
+        }
+        sb.append(text, 0, first);
+        appendEscaped(sb, text, first, TEXT);
+    }
+
+    /**
+     * Returns whether {@code s[from, to)} is unchanged by {@link #forHtml(String)}.
+     */
+    static boolean isSafeText(CharSequence s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < TABLE_SIZE) {
+                if (TEXT[c] != SAFE) {
+                    return false;
+                }
+            } else if (c >= Character.MIN_SURROGATE) {
+                int span = span(s, i, c);
+                if (span < 0 || i + span > to) {
+                    return false;
+                }
+                i += span - 1;
+            }
+        }
+        return true;
+    }
+
+    private static String escape(String input, byte[] table) {
+        if (input == null) {
+            return "null";
+        }
+        int first = firstUnsafe(input, table);
+        if (first == input.length()) {
+            return input;
+        }
+        StringBuilder sb = new StringBuilder(input.length() + 16);
+        sb.append(input, 0, first);
+        appendEscaped(sb, input, first, table);
+        return sb.toString();
+    }
+
+    /**
+     * Returns the index of the first character that must be rewritten, or the length when none.
+     */
+    private static int firstUnsafe(String s, byte[] table) {
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < TABLE_SIZE) {
+                if (table[c] != SAFE) {
+                    return i;
+                }
+            } else if (c >= Character.MIN_SURROGATE) {
+                int span = span(s, i, c);
+                if (span < 0) {
+                    return i;
+                }
+                i += span - 1;
+            }
+        }
+        return length;
+    }
+
+    private static void appendEscaped(StringBuilder sb, String s, int from, byte[] table) {
+        int length = s.length();
+        for (int i = from; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < TABLE_SIZE) {
+                switch (table[c]) {
+                    case SAFE -> sb.append(c);
+                    case ENTITY -> sb.append(entity(c));
+                    default -> sb.append(' ');
+                }
+            } else if (c < Character.MIN_SURROGATE) {
+                sb.append(c);
+            } else {
+                int span = span(s, i, c);
+                if (span < 0) {
+                    sb.append(' ');
+                } else {
+                    sb.append(s, i, i + span);
+                }
+                i += Math.abs(span) - 1;
+            }
+        }
+    }
+
+    /**
+     * Classifies the character sequence starting at a char at or above the surrogate range.
+     *
+     * @return the sequence length when valid, or its negated length when it must become a space
+     */
+    private static int span(CharSequence s, int i, char c) {
+        if (Character.isHighSurrogate(c)) {
+            if (i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(i + 1));
+                return (codePoint & 0xFFFE) == 0xFFFE ? -2 : 2;
+            }
+            return -1;
+        }
+        if (Character.isLowSurrogate(c) || (c >= 0xFDD0 && c <= 0xFDEF) || c >= 0xFFFE) {
+            return -1;
+        }
+        return 1;
+    }
+
+    private static String entity(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&#34;";
+            default -> "&#39;";
+        };
+    }
+}
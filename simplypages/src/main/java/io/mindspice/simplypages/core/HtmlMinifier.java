@@ -0,0 +1,386 @@
+package io.mindspice.simplypages.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Minifies the static markup of a {@link Template} once, at compile time.
+ *
+ * <p>Static chunks are fed in render order; state carries across chunks so an element opened in
+ * one chunk and closed after a dynamic segment is still recognized. Transformations:</p>
+ * <p>- whitespace runs collapse to one space, and are dropped entirely next to a block-level
+ * element; around a non-rendering element ({@code script}, {@code style}, {@code link},
+ * {@code meta}) at most one side is dropped, so text on both sides stays separated</p>
+ * <p>- double-quoted attribute values made only of letters, digits, {@code - _ . :} lose their
+ * quotes</p>
+ * <p>- inline {@code <style>} blocks lose comments and insignificant whitespace</p>
+ * <p>- inline JavaScript blocks lose indentation, blank lines, and whole-line {@code //} comments;
+ * line breaks are kept so automatic semicolon insertion is unaffected</p>
+ *
+ * <p>Left byte-for-byte: {@code <pre>}, {@code <textarea>}, and {@code <code>} content, comments,
+ * scripts containing template literals or with a non-JavaScript {@code type}, and any script or
+ * style block interrupted by a dynamic segment. Whitespace next to a dynamic segment collapses to
+ * one space but is never dropped.</p>
+ *
+ * <p>Mutability/thread-safety: stateful and single-use; confined to one template compilation.</p>
+ */
+final class HtmlMinifier {
+
+    /** Elements whose content is emitted verbatim. */
+    private static final Set<String> PRESERVED = Set.of("pre", "textarea", "code");
+
+    /** Elements around which inter-tag whitespace never renders. */
+    private static final Set<String> BLOCK = Set.of(
+        "address", "article", "aside", "blockquote", "body", "br", "dd", "details", "dialog", "div",
+        "dl", "dt", "fieldset", "figcaption", "figure", "footer", "form", "h1", "h2", "h3", "h4",
+        "h5", "h6", "head", "header", "hr", "html", "li", "main", "nav", "ol", "option", "p",
+        "section", "select", "summary", "table", "tbody", "td", "tfoot", "th", "thead", "title",
+        "tr", "ul", "!doctype");
+
+    /**
+     * Elements that render nothing; whitespace on their two sides renders as one run, so only one
+     * side may be dropped.
+     */
+    private static final Set<String> NON_RENDERING = Set.of("link", "meta", "script", "style");
+
+    /** Depth of open {@link #PRESERVED} elements. */
+    private int preserveDepth;
+
+    /** Terminator of a verbatim run left open by the previous chunk (lower case), or {@code null}. */
+    private String pendingEnd;
+
+    /**
+     * Lower-case name of the tag before the current position: empty after text or a comment,
+     * {@code null} right after a dynamic segment.
+     */
+    private String lastTag;
+
+    /**
+     * Whether the output before the current run of {@link #NON_RENDERING} elements already ends in
+     * a separator (a space or a block-level tag).
+     */
+    private boolean separatedBeforeHidden;
+
+    /**
+     * Minifies one static chunk.
+     *
+     * @param dynamicBefore whether a dynamic segment precedes this chunk
+     * @param dynamicAfter whether a dynamic segment follows this chunk
+     */
+    String minify(String chunk, boolean dynamicBefore, boolean dynamicAfter) {
+        StringBuilder out = new StringBuilder(chunk.length());
+        lastTag = dynamicBefore ? null : "html";
+        int i = 0;
+        if (pendingEnd != null) {
+            i = copyUntil(chunk, 0, pendingEnd, out);
+            if (i < 0) {
+                return out.toString();
+            }
+            pendingEnd = null;
+        }
+        int length = chunk.length();
+        while (i < length) {
+            char c = chunk.charAt(i);
+            if (c == '<') {
+                i = tag(chunk, i, out);
+                if (i < 0) {
+                    break;
+                }
+            } else if (preserveDepth > 0) {
+                out.append(c);
+                i++;
+            } else if (Character.isWhitespace(c)) {
+                int end = i;
+                while (end < length && Character.isWhitespace(chunk.charAt(end))) {
+                    end++;
+                }
+                if (!droppable(chunk, end, dynamicAfter)) {
+                    out.append(' ');
+                }
+                i = end;
+            } else {
+                out.append(c);
+                lastTag = "";
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Emits the markup starting at {@code start} and returns the index after it, or {@code -1}
+     * when the rest of the chunk was copied verbatim.
+     */
+    private int tag(String chunk, int start, StringBuilder out) {
+        if (chunk.startsWith("<!--", start)) {
+            lastTag = "";
+            return copyUntil(chunk, start, "-->", out);
+        }
+        boolean closing = start + 1 < chunk.length() && chunk.charAt(start + 1) == '/';
+        String name = tagName(chunk, closing ? start + 2 : start + 1);
+        if (name.isEmpty()) {
+            // A literal '<' in text, not a tag.
+            out.append('<');
+            lastTag = "";
+            return start + 1;
+        }
+        int end = tagEnd(chunk, start);
+        if (end < 0) {
+            out.append(chunk, start, chunk.length());
+            return -1;
+        }
+        if (preserveDepth > 0) {
+            out.append(chunk, start, end);
+            if (PRESERVED.contains(name)) {
+                preserveDepth += closing ? -1 : 1;
+            }
+            return end;
+        }
+        if (!closing && NON_RENDERING.contains(name) && (lastTag == null || !NON_RENDERING.contains(lastTag))) {
+            separatedBeforeHidden = lastTag != null
+                && (BLOCK.contains(lastTag) || (!out.isEmpty() && out.charAt(out.length() - 1) == ' '));
+        }
+        appendTag(chunk, start, end, out);
+        lastTag = name;
+        if (closing) {
+            return end;
+        }
+        if (PRESERVED.contains(name)) {
+            preserveDepth++;
+            return end;
+        }
+        if (name.equals("script") || name.equals("style")) {
+            String terminator = "</" + name;
+            int close = indexOfIgnoreCase(chunk, terminator, end);
+            if (close < 0) {
+                return copyUntil(chunk, end, terminator, out);
+            }
+            String body = chunk.substring(end, close);
+            if (name.equals("style")) {
+                out.append(minifyCss(body));
+            } else if (isJavaScript(chunk.substring(start, end)) && body.indexOf('`') < 0) {
+                out.append(minifyJs(body));
+            } else {
+                out.append(body);
+            }
+            return close;
+        }
+        return end;
+    }
+
+    /**
+     * Copies verbatim through {@code terminator}; returns the index after it, or {@code -1} and
+     * remembers the terminator when the chunk ends first.
+     */
+    private int copyUntil(String chunk, int start, String terminator, StringBuilder out) {
+        int at = indexOfIgnoreCase(chunk, terminator, start);
+        if (at < 0) {
+            out.append(chunk, start, chunk.length());
+            pendingEnd = terminator;
+            return -1;
+        }
+        int end = terminator.startsWith("</") ? at : at + terminator.length();
+        out.append(chunk, start, end);
+        return end;
+    }
+
+    /**
+     * Whether the whitespace run ending at {@code end} can be removed entirely.
+     */
+    private boolean droppable(String chunk, int end, boolean dynamicAfter) {
+        String next;
+        if (end == chunk.length()) {
+            next = dynamicAfter ? null : "html";
+        } else if (chunk.charAt(end) == '<') {
+            boolean closing = end + 1 < chunk.length() && chunk.charAt(end + 1) == '/';
+            next = tagName(chunk, closing ? end + 2 : end + 1);
+        } else {
+            next = "";
+        }
+        if (lastTag == null || next == null) {
+            return false;
+        }
+        if (NON_RENDERING.contains(lastTag)) {
+            return separatedBeforeHidden || BLOCK.contains(next);
+        }
+        if (NON_RENDERING.contains(next)) {
+            return BLOCK.contains(lastTag);
+        }
+        return BLOCK.contains(lastTag) || BLOCK.contains(next);
+    }
+
+    /**
+     * Appends a tag, dropping quotes from attribute values that do not need them.
+     */
+    private static void appendTag(String chunk, int start, int end, StringBuilder out) {
+        int i = start;
+        while (i < end) {
+            char c = chunk.charAt(i);
+            if (c == '\'' || c == '"') {
+                int close = chunk.indexOf(c, i + 1);
+                out.append(chunk, i, close + 1);
+                i = close + 1;
+            } else if (c == '=' && i + 1 < end && chunk.charAt(i + 1) == '"') {
+                int close = chunk.indexOf('"', i + 2);
+                char after = chunk.charAt(close + 1);
+                boolean bare = close > i + 2 && after != '/' && isBareValue(chunk, i + 2, close);
+                if (bare) {
+                    out.append('=').append(chunk, i + 2, close);
+                } else {
+                    out.append(chunk, i, close + 1);
+                }
+                i = close + 1;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+    }
+
+    private static boolean isBareValue(String chunk, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = chunk.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index after the {@code >} closing the tag at {@code start}, or {@code -1}.
+     */
+    private static int tagEnd(String chunk, int start) {
+        char quote = 0;
+        for (int i = start + 1; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static String tagName(String chunk, int start) {
+        int end = start;
+        while (end < chunk.length()) {
+            char c = chunk.charAt(end);
+            if (!Character.isLetterOrDigit(c) && c != '-' && !(c == '!' && end == start)) {
+                break;
+            }
+            end++;
+        }
+        return chunk.substring(start, end).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isJavaScript(String openTag) {
+        int type = indexOfIgnoreCase(openTag, " type=", 0);
+        if (type < 0) {
+            return true;
+        }
+        String value = openTag.substring(type + 6).replace("\"", "").replace("'", "").toLowerCase(Locale.ROOT);
+        return value.startsWith("module") || value.startsWith("text/javascript");
+    }
+
+    /**
+     * Trims each line, dropping blank lines and whole-line {@code //} comments.
+     */
+    static String minifyJs(String js) {
+        StringBuilder out = new StringBuilder(js.length());
+        for (String line : js.split("\n")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("//")) {
+                continue;
+            }
+            if (!out.isEmpty()) {
+                out.append('\n');
+            }
+            out.append(trimmed);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Drops comments and whitespace that does not separate tokens; quoted strings are kept.
+     *
+     * <p>Whitespace before {@code :} is kept in selectors ({@code div :hover}) and dropped in
+     * declarations.</p>
+     */
+    static String minifyCss(String css) {
+        StringBuilder out = new StringBuilder(css.length());
+        Deque<Boolean> declarationBlocks = new ArrayDeque<>();
+        int preludeStart = 0;
+        boolean space = false;
+        int i = 0;
+        while (i < css.length()) {
+            char c = css.charAt(i);
+            if (c == '/' && i + 1 < css.length() && css.charAt(i + 1) == '*') {
+                int close = css.indexOf("*/", i + 2);
+                i = close < 0 ? css.length() : close + 2;
+                space = true;
+            } else if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+            } else if (c == '"' || c == '\'') {
+                int close = css.indexOf(c, i + 1);
+                int end = close < 0 ? css.length() : close + 1;
+                appendCssSpace(out, space, c, false);
+                out.append(css, i, end);
+                space = false;
+                i = end;
+            } else {
+                if (c == '}' && !out.isEmpty() && out.charAt(out.length() - 1) == ';') {
+                    out.setLength(out.length() - 1);
+                }
+                boolean declaration = !declarationBlocks.isEmpty() && declarationBlocks.peek();
+                appendCssSpace(out, space, c, declaration);
+                if (c == '{') {
+                    declarationBlocks.push(!isGroupingRule(out.substring(preludeStart)));
+                } else if (c == '}' && !declarationBlocks.isEmpty()) {
+                    declarationBlocks.pop();
+                }
+                out.append(c);
+                if (c == '{' || c == '}' || c == ';') {
+                    preludeStart = out.length();
+                }
+                space = false;
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean isGroupingRule(String prelude) {
+        return prelude.startsWith("@media") || prelude.startsWith("@supports")
+            || prelude.startsWith("@container") || prelude.startsWith("@layer");
+    }
+
+    private static void appendCssSpace(StringBuilder out, boolean space, char next, boolean declaration) {
+        if (!space || out.isEmpty()) {
+            return;
+        }
+        char previous = out.charAt(out.length() - 1);
+        if ("{};:,>".indexOf(previous) < 0 && "{};,>)".indexOf(next) < 0 && !(declaration && next == ':')) {
+            out.append(' ');
+        }
+    }
+
+    private static int indexOfIgnoreCase(String text, String needle, int from) {
+        for (int i = from; i <= text.length() - needle.length(); i++) {
+            if (text.regionMatches(true, i, needle, 0, needle.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
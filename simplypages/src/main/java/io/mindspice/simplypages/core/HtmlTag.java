@@ -1,9 +1,8 @@
 package io.mindspice.simplypages.core;
 
-import org.owasp.encoder.Encode;
-
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -14,23 +13,26 @@ import java.util.stream.Collectors;
  * to produce HTML. Rendering is deterministic for current state and does not clear state.</p>
  *
  * <p>Security boundary:</p>
- * <p>- attribute values are escaped by {@link Attribute#render()}</p>
+ * <p>- attribute values are escaped once by {@link Attribute#render()} and reused</p>
  * <p>- inner text is escaped by default</p>
- * <p>- {@link #withUnsafeHtml(String)} inserts trusted HTML without escaping</p>
+ * <p>- {@link #withUnsafeHtml(String)} and {@link #withInnerHtml(SafeHtml)} insert trusted HTML
+ * without escaping</p>
  *
  * <p>Mutability/thread-safety: mutable and not thread-safe while being configured. Mutate within
  * a request-scoped composition flow; for reuse, stop mutating and render a stable tree (typically
- * via {@link Template}) with per-request {@link RenderContext} values.</p>
+ * via {@link Template}) with per-request {@link RenderContext} values. A tree built once can also
+ * serve as a prototype: {@link #cloneTree()} derives request-scoped copies without rebuilding.
+ * {@link #freeze()} turns a finished subtree into an immutable, thread-safe snapshot.</p>
  */
-public class HtmlTag implements Component {
+public class HtmlTag implements Component, Cloneable {
     /** HTML tag name rendered in opening/closing tags. */
     protected final String tagName;
 
-    /** Mutable attribute list in insertion order. */
-    protected final List<Attribute> attributes = new ArrayList<>();
+    /** Mutable attribute list in insertion order; storage is shared with clones until written. */
+    protected List<Attribute> attributes = new SharedList<Attribute>().ownedBy(this);
 
-    /** Mutable child component list in render order. */
-    protected final List<Component> children = new ArrayList<>();
+    /** Mutable child component list in render order; storage is shared with clones until written. */
+    protected List<Component> children = new SharedList<Component>().ownedBy(this);
 
     /** Whether this tag renders as self-closing. */
     protected final boolean selfClosing;
@@ -47,6 +49,28 @@ public class HtmlTag implements Component {
     /** Cached id field mirrored into attributes during mutation/render. */
     protected String id;
 
+    /** True once {@link #freeze()} locked this tag; mutators then throw. */
+    private boolean frozen = false;
+
+    /** Memoized output of a frozen, context-independent subtree; {@code null} otherwise. */
+    private String frozenHtml;
+
+    /** Module caches to invalidate on the next change; created on first registration. */
+    private volatile CacheWatchers watchers;
+
+    /** Per-class flag: true when {@link #render(RenderContext)} is inherited from this class or {@link Module}. */
+    private static final ClassValue<Boolean> RENDERS_CHILDREN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaring = type.getMethod("render", RenderContext.class).getDeclaringClass();
+                return declaring == HtmlTag.class || declaring == Module.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("HtmlTag must declare render(RenderContext)", e);
+            }
+        }
+    };
+
     /**
      * Creates a tag with explicit self-closing behavior.
      *
@@ -76,6 +100,10 @@ public class HtmlTag implements Component {
      * Sets element id and synchronizes an {@code id} attribute when non-null.
      */
     public HtmlTag withId(String id) {
+        if (Objects.equals(this.id, id) && (id == null || attributes.contains(new Attribute("id", id)))) {
+            return this;
+        }
+        markChanged();
         this.id = id;
         if (id != null) {
             this.withAttribute("id", id);
@@ -87,9 +115,13 @@ public class HtmlTag implements Component {
      * Adds or replaces an attribute by name.
      *
      * <p>Side effect: existing attribute with the same name is removed before insert, preventing
-     * duplicate names.</p>
+     * duplicate names. An identical existing attribute is left in place.</p>
      */
     public HtmlTag withAttribute(String name, String value) {
+        if (attributes.contains(new Attribute(name, value))) {
+            return this;
+        }
+        markChanged();
         attributes.removeIf(attr -> attr.name().equals(name));
         attributes.add(new Attribute(name, value));
         return this;
@@ -169,6 +201,7 @@ public class HtmlTag implements Component {
      * Appends a child component in render order.
      */
     public HtmlTag withChild(Component component) {
+        markChanged();
         children.add(component);
         return this;
     }
@@ -179,6 +212,10 @@ public class HtmlTag implements Component {
      * <p>Side effect: clears any dynamic text slot and marks content untrusted.</p>
      */
     public HtmlTag withInnerText(String text) {
+        if (innerTextSlot == null && !trustedHtml && Objects.equals(innerText, text)) {
+            return this;
+        }
+        markChanged();
         this.innerText = text;
         this.innerTextSlot = null;
         this.trustedHtml = false;
@@ -191,6 +228,7 @@ public class HtmlTag implements Component {
      * <p>Resolved values are escaped as text.</p>
      */
     public HtmlTag withInnerText(SlotKey<String> slotKey) {
+        markChanged();
         this.innerTextSlot = slotKey;
         this.innerText = "";
         this.trustedHtml = false;
@@ -203,11 +241,25 @@ public class HtmlTag implements Component {
      * <p>Security contract: call only with trusted, already-sanitized HTML.</p>
      */
     public HtmlTag withUnsafeHtml(String html) {
+        markChanged();
         this.innerText = html;
         this.trustedHtml = true;
         return this;
     }
 
+    /**
+     * Sets inner HTML from a {@link SafeHtml} fragment, appended verbatim at render time.
+     *
+     * <p>Side effect: clears any dynamic text slot.</p>
+     */
+    public HtmlTag withInnerHtml(SafeHtml html) {
+        markChanged();
+        this.innerText = html.html();
+        this.innerTextSlot = null;
+        this.trustedHtml = true;
+        return this;
+    }
+
     /**
      * Validates a restricted CSS size token used by width helpers.
      */
@@ -238,10 +290,12 @@ public class HtmlTag implements Component {
             }
 
             if (!exists) {
+                markChanged();
                 attributes.remove(attr);
                 attributes.add(new Attribute("class", current + " " + className));
             }
         } else {
+            markChanged();
             attributes.add(new Attribute("class", className));
         }
         return this;
@@ -324,6 +378,237 @@ public class HtmlTag implements Component {
         return addStyle("min-width", minWidth);
     }
 
+    /**
+     * Makes this tag and its tag descendants immutable and memoizes context-independent output.
+     *
+     * <p>Lifecycle: modules in the subtree are built, descendants are frozen bottom-up, then this
+     * tag is rendered once against an empty context. When that render reads no slot values, the
+     * HTML is memoized and every later render, parent render, or {@link Template} compilation emits
+     * it by a single copy. Subtrees containing slots stay live and resolve per render.</p>
+     *
+     * <p>Mutability/thread-safety: after this call {@link HtmlTag} mutators that would change state
+     * and writes to {@link #attributes}/{@link #children} throw {@link IllegalStateException}.
+     * Re-applying state the tag already holds is a no-op, so subclasses that normalize attributes
+     * while rendering keep working. A frozen tree that is
+     * safely published (for example through a {@code static final} field) may be rendered
+     * concurrently. Subclass setters that call {@link #markChanged()} are rejected as well.</p>
+     *
+     * @return this tag
+     */
+    public HtmlTag freeze() {
+        if (frozen) {
+            return this;
+        }
+        freezeChildren();
+        RenderContext probe = RenderContext.empty();
+        String html = render(probe);
+        if (probe.readCount() == 0) {
+            frozenHtml = html;
+        }
+        // Subclasses that rebuild children while rendering only populate them during the probe.
+        freezeChildren();
+
+        frozen = true;
+        lock(attributes);
+        lock(children);
+        return this;
+    }
+
+    /**
+     * Freezes tag children from both the owned list and {@link #getChildrenStream()}.
+     */
+    private void freezeChildren() {
+        for (Component child : children) {
+            if (child instanceof HtmlTag tag) {
+                tag.freeze();
+            }
+        }
+        getChildrenStream().forEach(child -> {
+            if (child instanceof HtmlTag tag) {
+                tag.freeze();
+            } else if (child instanceof MutableComponent component) {
+                component.freeze();
+            }
+        });
+    }
+
+    /**
+     * Returns whether {@link #freeze()} has locked this tag.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns memoized HTML for a frozen context-independent subtree, or {@code null}.
+     */
+    String frozenHtml() {
+        return frozenHtml;
+    }
+
+    /**
+     * Records a state change that affects render output.
+     *
+     * <p>Extension point: subclass mutators that change render-relevant fields outside
+     * {@link #attributes}/{@link #children} must call this first so frozen tags reject the change and
+     * cached {@link Module} output is invalidated. Writes to the two lists report themselves.</p>
+     *
+     * @throws IllegalStateException when this tag is frozen
+     */
+    protected final void markChanged() {
+        if (frozen) {
+            throw new IllegalStateException("Cannot modify frozen <" + tagName + "> tag");
+        }
+        fireChanged();
+    }
+
+    /**
+     * Invalidates every module cache registered through {@link #watch(Module, long)}.
+     */
+    void fireChanged() {
+        CacheWatchers registered = watchers;
+        if (registered != null) {
+            registered.fire();
+        }
+    }
+
+    /**
+     * Returns the components this tag's output is derived from, for {@link Module} render caching.
+     *
+     * <p>Defaults to {@link #getChildrenStream()}, or {@code null} when the class overrides
+     * {@link #render(RenderContext)}: such output may depend on state the cache cannot observe, so
+     * enclosing modules render on every call. Extension point: subclasses whose render override
+     * only reads fields guarded by {@link #markChanged()} and the returned components override this
+     * to opt back in.</p>
+     *
+     * @return tracked components, or {@code null} when this tag's output cannot be tracked
+     */
+    protected java.util.stream.Stream<Component> getTrackedChildren() {
+        return RENDERS_CHILDREN.get(getClass()) ? getChildrenStream() : null;
+    }
+
+    /**
+     * Registers {@code module}'s cache so the next change to this tag or its lists invalidates it.
+     *
+     * @return {@code false} when a subclass replaced {@link #attributes} or {@link #children} with a
+     *     list whose writes cannot be observed
+     */
+    boolean watch(Module module, long generation) {
+        if (!(attributes instanceof SharedList<?>) || !(children instanceof SharedList<?>)) {
+            return false;
+        }
+        CacheWatchers registered = watchers;
+        if (registered == null) {
+            synchronized (CacheWatchers.class) {
+                registered = watchers;
+                if (registered == null) {
+                    watchers = registered = new CacheWatchers();
+                }
+            }
+        }
+        registered.add(module, generation);
+        return true;
+    }
+
+    /**
+     * Locks a tag-owned list so direct subclass writes also fail after freezing.
+     */
+    private void lock(List<?> list) {
+        if (list instanceof SharedList<?> sharedList) {
+            sharedList.freeze();
+        }
+    }
+
+    /**
+     * Returns a copy of this tag and its {@link HtmlTag} descendants for request-scoped mutation.
+     *
+     * <p>Copy-on-write: attribute lists and child lists share storage with this tag until either
+     * side writes to them. {@link MutableComponent}s are copied; other non-tag components (text
+     * nodes, raw HTML, slots) are shared by reference, as are frozen subtrees below a mutable tag. Cloning a frozen tag yields a fully
+     * mutable copy. Subclass-owned state is detached through {@link #cloneState(CloneContext)}.</p>
+     *
+     * <p>Usage: build a prototype once, stop mutating it, call {@link #asPrototype()}, and call this
+     * per request. Cloning a prepared prototype only reads it, so concurrent clones are safe while
+     * the prototype is not mutated.</p>
+     *
+     * @return independent copy with the same runtime type as this tag
+     */
+    public HtmlTag cloneTree() {
+        return new CloneContext(frozen).copy(this);
+    }
+
+    /**
+     * Prepares this tree to be cloned from several threads.
+     *
+     * <p>Copy-on-write storage records on the source that it is shared the first time it is
+     * cloned. This runs one clone pass on the calling thread so that bookkeeping happens before the
+     * prototype is published; later {@link #cloneTree()} calls, concurrent or not, only read it.
+     * Mutating the prototype afterwards is still supported and copies its storage first.</p>
+     *
+     * @return this tag
+     */
+    public HtmlTag asPrototype() {
+        cloneTree();
+        return this;
+    }
+
+    /**
+     * Detaches subclass-owned mutable state on a freshly cloned tag.
+     *
+     * <p>Called on the copy after attributes and children were copied. Extension point: subclasses
+     * that hold tags, components, or collections outside {@link #attributes}/{@link #children}
+     * must reassign them through {@code context} so the copy never writes into the prototype.
+     * Tags already reachable from {@link #children} resolve to the same copy.</p>
+     *
+     * @param context clone pass used to copy referenced components and collections
+     */
+    protected void cloneState(CloneContext context) { }
+
+    /**
+     * Clears per-instance freeze and cache state on a freshly cloned copy.
+     */
+    void resetCopyState() {
+        frozen = false;
+        frozenHtml = null;
+        watchers = null;
+    }
+
+    /**
+     * Clones this tag within {@code context}; invoked by {@link CloneContext#copy(Component)}.
+     */
+    HtmlTag copyTree(CloneContext context) {
+        HtmlTag copy;
+        try {
+            copy = (HtmlTag) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HtmlTag must be cloneable", e);
+        }
+        context.register(this, copy);
+        copy.resetCopyState();
+        copy.attributes = SharedList.shareOf(attributes).ownedBy(copy);
+        copy.children = copyChildren(context).ownedBy(copy);
+        copy.cloneState(context);
+        return copy;
+    }
+
+    /**
+     * Copies the child list, sharing its storage when no child needed cloning.
+     */
+    private SharedList<Component> copyChildren(CloneContext context) {
+        Component[] copies = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component copy = context.copy(child);
+            if (copy != child && copies == null) {
+                copies = children.toArray(new Component[0]);
+            }
+            if (copies != null) {
+                copies[i] = copy;
+            }
+        }
+        return copies == null ? SharedList.shareOf(children) : SharedList.copyOf(Arrays.asList(copies));
+    }
+
     /**
      * Returns children to render, in order.
      *
@@ -338,16 +623,40 @@ public class HtmlTag implements Component {
      *
      * <p>Security contract: slot and plain text are escaped; trusted HTML payload is emitted
      * verbatim.</p>
+     *
+     * <p>With a {@link RenderBudget} attached to {@code context}, each tag counts toward the depth,
+     * output, and time limits and throws {@link RenderBudget.ExceededException} when one is hit.</p>
      */
     @Override
     public String render(RenderContext context) {
+        if (frozenHtml != null) {
+            return frozenHtml;
+        }
+        RenderBudget.Tracker budget = context.budget();
+        if (budget == null) {
+            return renderTag(context, null);
+        }
+        budget.enter();
+        try {
+            return renderTag(context, budget);
+        } finally {
+            budget.exit();
+        }
+    }
+
+    /**
+     * Renders this tag, charging its own markup (not its children's) to {@code budget} when set.
+     */
+    private String renderTag(RenderContext context, RenderBudget.Tracker budget) {
         StringBuilder sb = new StringBuilder("<").append(tagName);
 
         if (id != null && attributes.stream().noneMatch(attr -> "id".equals(attr.name()))) {
             sb.append(new Attribute("id", id).render());
         }
 
-        sb.append(attributes.stream().map(Attribute::render).collect(Collectors.joining()));
+        for (Attribute attr : attributes) {
+            sb.append(attr.render());
+        }
 
         if (selfClosing) {
             return sb.append(" />").toString();
@@ -357,17 +666,39 @@ public class HtmlTag implements Component {
 
         if (innerTextSlot != null) {
             String val = context.get(innerTextSlot).orElse("");
-            sb.append(Encode.forHtml(val));
+            HtmlEscaper.appendHtml(sb, val);
         } else if (!innerText.isEmpty()) {
             if (trustedHtml) {
                 sb.append(innerText);
             } else {
-                sb.append(Encode.forHtml(innerText));
+                HtmlEscaper.appendHtml(sb, innerText);
             }
         }
 
-        sb.append(getChildrenStream().map(child -> child.render(context)).collect(Collectors.joining()));
+        if (budget != null) {
+            budget.charge(sb.length());
+        }
+        ParallelRenderer.Plan parallel = context.parallel();
+        if (parallel != null && parallel.splits(this)) {
+            parallel.renderChildren(getChildrenStream().toList(), context, sb);
+        } else {
+            sb.append(getChildrenStream().map(child -> renderChild(child, context)).collect(Collectors.joining()));
+        }
         sb.append("</").append(tagName).append(">");
         return sb.toString();
     }
+
+    /**
+     * Renders one child, emitting memoized HTML for frozen tags even when their class overrides
+     * {@link #render(RenderContext)}.
+     */
+    static String renderChild(Component child, RenderContext context) {
+        if (child instanceof HtmlTag tag && tag.frozenHtml != null) {
+            return tag.frozenHtml;
+        }
+        if (child instanceof SafeHtml safe) {
+            return safe.html();
+        }
+        return child.render(context);
+    }
 }
@@ -0,0 +1,109 @@
+package io.mindspice.simplypages.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deterministic allocator for component ids generated when no explicit id is given.
+ *
+ * <p>Components that need an id ({@code Modal}, {@code Checkbox} labels, {@code EditableModule})
+ * call {@link #next(String)} while they are built. Inside an open scope, ids are numbered per prefix
+ * from 1 and namespaced by the scope seed, so building the same tree in the same order yields
+ * byte-identical HTML on every request and ETags or fragment caches stay valid:</p>
+ *
+ * <pre>{@code
+ * try (IdScope ids = IdScope.open("dashboard")) {
+ *     return buildDashboard(user).render(ctx);   // modal-<seed>-1, checkbox-<seed>-1, ...
+ * }
+ * }</pre>
+ *
+ * <p>Use a seed that identifies the page or fragment (route, template name) so fragments rendered
+ * into the same document do not collide. Outside a scope, ids come from a process-wide atomic
+ * counter: unique and thread-safe, but not stable across requests.</p>
+ *
+ * <p>Mutability/thread-safety: a scope is bound to the thread that opened it and must be closed on
+ * that thread; nested scopes restore the enclosing scope on close.</p>
+ */
+public final class IdScope implements AutoCloseable {
+
+    private static final ThreadLocal<IdScope> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong FALLBACK = new AtomicLong();
+
+    private final String namespace;
+    private final IdScope enclosing;
+    private final Map<String, Integer> counters = new HashMap<>();
+    private boolean closed;
+
+    private IdScope(String namespace, IdScope enclosing) {
+        this.namespace = namespace;
+        this.enclosing = enclosing;
+    }
+
+    /**
+     * Opens an unseeded scope on the current thread; ids take the form {@code <prefix>-<n>}.
+     */
+    public static IdScope open() {
+        return bind("");
+    }
+
+    /**
+     * Opens a scope on the current thread namespaced by a stable hash of {@code seed}; ids take the
+     * form {@code <prefix>-<hash>-<n>}.
+     */
+    public static IdScope open(String seed) {
+        Objects.requireNonNull(seed, "seed cannot be null");
+        return bind(Integer.toUnsignedString(seed.hashCode(), 36) + "-");
+    }
+
+    /**
+     * Returns the next id for {@code prefix} from the current scope, or a process-unique id when no
+     * scope is open.
+     *
+     * @param prefix id prefix starting with a letter, for example {@code "modal"}
+     */
+    public static String next(String prefix) {
+        Objects.requireNonNull(prefix, "prefix cannot be null");
+        IdScope scope = CURRENT.get();
+        if (scope == null) {
+            return prefix + "-" + FALLBACK.incrementAndGet();
+        }
+        int n = scope.counters.merge(prefix, 1, Integer::sum);
+        return prefix + "-" + scope.namespace + n;
+    }
+
+    /**
+     * Returns whether a scope is open on the current thread.
+     */
+    public static boolean isOpen() {
+        return CURRENT.get() != null;
+    }
+
+    private static IdScope bind(String namespace) {
+        IdScope scope = new IdScope(namespace, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Unbinds this scope, restoring the enclosing one; later calls are no-ops.
+     *
+     * @throws IllegalStateException when a nested scope opened after this one is still open
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        if (CURRENT.get() != this) {
+            throw new IllegalStateException("IdScope closed out of order or on another thread");
+        }
+        closed = true;
+        if (enclosing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(enclosing);
+        }
+    }
+}
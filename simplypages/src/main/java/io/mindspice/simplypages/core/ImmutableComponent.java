@@ -0,0 +1,14 @@
+package io.mindspice.simplypages.core;
+
+/**
+ * Marker for non-tag components whose output is fixed at construction and depends on nothing but
+ * the {@link RenderContext}.
+ *
+ * <p>Render caching: an enclosing {@link Module} caches its output only when every non-tag
+ * component in its subtree is either an {@code ImmutableComponent} or a {@link MutableComponent}
+ * that reports its changes; any other component keeps the module rendering on every call.</p>
+ *
+ * <p>Mutability/thread-safety: implementations must be immutable and thread-safe.</p>
+ */
+public interface ImmutableComponent extends Component {
+}
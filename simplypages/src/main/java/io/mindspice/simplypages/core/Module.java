@@ -1,6 +1,8 @@
 package io.mindspice.simplypages.core;
 
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Base class for high-level composed components with build-once lifecycle semantics.
@@ -28,6 +30,21 @@ public abstract class Module extends HtmlTag {
     /** Build guard enforcing idempotent {@link #build()} behavior. */
     private boolean built = false;
 
+    /** Last slot-free render output; cleared by the next change anywhere in the subtree. */
+    private String renderCache;
+
+    /** Identifies the current subtree registration; bumped on every registration walk. */
+    private long cacheGeneration;
+
+    /** True while the registrations of {@link #cacheGeneration} are live, i.e. nothing changed since. */
+    private boolean watching;
+
+    /** True once a render read no slot values; the cache is filled from the second such render. */
+    private boolean renderedSlotFree;
+
+    /** Optional boundary containing build and render failures, or {@code null}. */
+    private ErrorBoundary errorBoundary;
+
     /**
      * Creates a module backed by the provided container tag.
      */
@@ -39,6 +56,7 @@ public abstract class Module extends HtmlTag {
      * Sets module id and synchronizes the underlying {@code id} attribute.
      */
     public Module withModuleId(String moduleId) {
+        markDirty();
         this.moduleId = moduleId;
         this.withAttribute("id", moduleId);
         return this;
@@ -62,10 +80,23 @@ public abstract class Module extends HtmlTag {
      * Sets optional title consumed by {@link #buildContent()} implementations.
      */
     public Module withTitle(String title) {
+        markDirty();
         this.title = title;
         return this;
     }
 
+    /**
+     * Renders this module through {@code boundary}: a failure in {@link #buildContent()} or while
+     * rendering serves the module's last successful output (or the boundary's fallback) instead of
+     * failing the page.
+     *
+     * <p>Pass {@code null} to remove the boundary.</p>
+     */
+    public Module withErrorBoundary(ErrorBoundary boundary) {
+        this.errorBoundary = boundary;
+        return this;
+    }
+
     /**
      * Adds a class token; {@code module} base class is still enforced by build lifecycle.
      */
@@ -123,6 +154,7 @@ public abstract class Module extends HtmlTag {
      * Clears children, resets build guard, and immediately rebuilds structure.
      */
     protected void rebuildContent() {
+        markDirty();
         children.clear();
         built = false;
         build();
@@ -134,19 +166,197 @@ public abstract class Module extends HtmlTag {
     public Module build() {
         if (!built) {
             ensureModuleClass();
-            buildContent();
+            int existing = children.size();
+            try {
+                buildContent();
+            } catch (RuntimeException e) {
+                // Drop a partial build so the next attempt starts from the same children.
+                while (children.size() > existing) {
+                    children.remove(children.size() - 1);
+                }
+                throw e;
+            }
             built = true;
         }
         return this;
     }
 
+    /**
+     * Builds this module, then freezes it as described by {@link HtmlTag#freeze()}.
+     *
+     * <p>A frozen module rejects {@link #withTitle(String)}, {@link #withModuleId(String)}, and
+     * {@link #rebuildContent()}.</p>
+     */
+    @Override
+    public Module freeze() {
+        build();
+        super.freeze();
+        return this;
+    }
+
+    /**
+     * Prepares this module as described by {@link HtmlTag#asPrototype()}.
+     */
+    @Override
+    public Module asPrototype() {
+        super.asPrototype();
+        return this;
+    }
+
+    /**
+     * Drops render-cache state so the copy renders its own subtree.
+     */
+    @Override
+    void resetCopyState() {
+        super.resetCopyState();
+        renderCache = null;
+        watching = false;
+        renderedSlotFree = false;
+    }
+
+    /**
+     * Returns a copy of this module, including its built state and built subtree.
+     *
+     * <p>A module cloned after {@link #build()} is not rebuilt on render; edit flows on the copy
+     * still rebuild through {@link #rebuildContent()}.</p>
+     */
+    @Override
+    public Module cloneTree() {
+        return (Module) super.cloneTree();
+    }
+
+    /**
+     * Invalidates cached render output so the next render walks the subtree again.
+     *
+     * <p>Called by module mutators, {@link #rebuildContent()}, and {@code applyEdits}
+     * implementations. Changes made through tag and {@link MutableComponent} setters anywhere in
+     * the subtree are detected automatically.</p>
+     *
+     * @throws IllegalStateException when this module is frozen
+     */
+    public void markDirty() {
+        markChanged();
+        invalidateCache(cacheGeneration);
+    }
+
+    /**
+     * Drops cached output when {@code generation} is the current registration.
+     */
+    void invalidateCache(long generation) {
+        if (generation == cacheGeneration) {
+            renderCache = null;
+            watching = false;
+        }
+    }
+
+    /**
+     * Returns whether {@code generation} is the current, still live registration.
+     */
+    boolean isCacheGeneration(long generation) {
+        return watching && generation == cacheGeneration;
+    }
+
     /**
      * Builds if needed, then delegates rendering to {@link HtmlTag}.
+     *
+     * <p>Render caching: from the second render that reads no values from {@code context}, the
+     * output is kept and returned by later renders until something in the subtree changes. The
+     * module registers itself on every tag and {@link MutableComponent} below it when it fills the
+     * cache, and their next change clears it, so a hit costs O(1). Subtrees containing slots render
+     * on every call, as do subtrees containing a component whose changes cannot be observed (a
+     * non-tag component that is neither {@link MutableComponent} nor {@link ImmutableComponent}, or
+     * a tag whose {@link #getTrackedChildren()} is {@code null}). Renders against a shared context
+     * are never cached.</p>
+     *
+     * <p>Render budget: a module is an abort boundary. When a {@link RenderBudget} limit is hit
+     * while rendering it, the module renders as the budget's fallback instead.</p>
+     *
+     * <p>Error boundary: with {@link #withErrorBoundary(ErrorBoundary)}, build and render failures
+     * are caught by the boundary.</p>
      */
     @Override
     public String render(RenderContext context) {
+        if (errorBoundary != null) {
+            return errorBoundary.render(context, this::renderBuilt);
+        }
+        return renderBuilt(context);
+    }
+
+    private String renderBuilt(RenderContext context) {
         build();
-        return super.render(context);
+        RenderBudget.Tracker budget = context.budget();
+        if (budget == null) {
+            return renderModule(context, null);
+        }
+        try {
+            return renderModule(context, budget);
+        } catch (RenderBudget.ExceededException e) {
+            context.markUncacheable();
+            return budget.fallbackHtml();
+        }
+    }
+
+    private String renderModule(RenderContext context, RenderBudget.Tracker budget) {
+        if (isFrozen()) {
+            return super.render(context);
+        }
+        String cached = renderCache;
+        if (cached != null) {
+            if (budget != null) {
+                budget.charge(cached.length());
+            }
+            return cached;
+        }
+        int reads = context.readCount();
+        String html = super.render(context);
+        // Shared contexts keep no read counter, so their renders cannot prove slot independence.
+        if (context.isShared() || context.readCount() != reads || watching) {
+            // While watching without a cache, an untracked component is still in place.
+            return html;
+        }
+        if (!renderedSlotFree) {
+            // Modules rendered once, such as per-request clones, never pay for registration.
+            renderedSlotFree = true;
+            return html;
+        }
+        long generation = ++cacheGeneration;
+        watching = true;
+        if (track(this, generation)) {
+            renderCache = html;
+        }
+        return html;
+    }
+
+    /**
+     * Registers this module's cache on {@code component} and everything it renders.
+     *
+     * @return {@code false} when some component's changes cannot be observed
+     */
+    private boolean track(Component component, long generation) {
+        if (component instanceof HtmlTag tag) {
+            if (tag.isFrozen()) {
+                return true;
+            }
+            Stream<Component> tracked = tag.getTrackedChildren();
+            return tracked != null && tag.watch(this, generation) && trackAll(tracked, generation);
+        }
+        if (component instanceof MutableComponent leaf) {
+            if (leaf.isFrozen()) {
+                return true;
+            }
+            leaf.watch(this, generation);
+            return trackAll(leaf.getNestedComponents(), generation);
+        }
+        return component instanceof ImmutableComponent;
+    }
+
+    private boolean trackAll(Stream<Component> components, long generation) {
+        for (Iterator<Component> it = components.iterator(); it.hasNext(); ) {
+            if (!track(it.next(), generation)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
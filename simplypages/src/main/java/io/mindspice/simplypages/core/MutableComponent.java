@@ -0,0 +1,121 @@
+package io.mindspice.simplypages.core;
+
+import java.util.stream.Stream;
+
+/**
+ * Base class for non-tag components whose output can change after construction, either through
+ * their own setters or through components they render.
+ *
+ * <p>Extension point: setters that change render output call {@link #markChanged()} first, and
+ * components rendered by this one are exposed through {@link #getNestedComponents()}. Together
+ * they let an enclosing {@link Module} keep cached output until something in it actually
+ * changes. Components that never change after construction implement
+ * {@link ImmutableComponent} instead.</p>
+ *
+ * <p>Cloning: {@link HtmlTag#cloneTree()} copies these components along with their tags, so a
+ * setter called on the prototype never reaches a clone. Components holding other components or
+ * collections detach them through {@link #cloneState(CloneContext)}.</p>
+ *
+ * <p>Mutability/thread-safety: mutable and not thread-safe while being configured. Freezing the
+ * enclosing tag with {@link HtmlTag#freeze()} freezes this component as well.</p>
+ */
+public abstract class MutableComponent implements Component, Cloneable {
+
+    /** True once an enclosing {@link HtmlTag#freeze()} locked this component. */
+    private boolean frozen = false;
+
+    /** Module caches to invalidate on the next change; created on first registration. */
+    private volatile CacheWatchers watchers;
+
+    /**
+     * Records a state change that affects render output.
+     *
+     * @throws IllegalStateException when this component is frozen
+     */
+    protected final void markChanged() {
+        if (frozen) {
+            throw new IllegalStateException("Cannot modify frozen " + getClass().getSimpleName());
+        }
+        CacheWatchers registered = watchers;
+        if (registered != null) {
+            registered.fire();
+        }
+    }
+
+    /**
+     * Returns the components this component renders, in render order.
+     *
+     * <p>Extension point: components holding other components override this; the default holds
+     * none.</p>
+     */
+    protected Stream<Component> getNestedComponents() {
+        return Stream.empty();
+    }
+
+    /**
+     * Returns whether an enclosing {@link HtmlTag#freeze()} locked this component.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Locks this component and its nested tags and components.
+     */
+    void freeze() {
+        if (frozen) {
+            return;
+        }
+        getNestedComponents().forEach(nested -> {
+            if (nested instanceof HtmlTag tag) {
+                tag.freeze();
+            } else if (nested instanceof MutableComponent component) {
+                component.freeze();
+            }
+        });
+        frozen = true;
+    }
+
+    /**
+     * Detaches subclass-owned state on a freshly cloned component.
+     *
+     * <p>Extension point: subclasses holding components or collections reassign them through
+     * {@code context}, mirroring {@link HtmlTag#cloneState(CloneContext)}.</p>
+     *
+     * @param context clone pass used to copy referenced components and collections
+     */
+    protected void cloneState(CloneContext context) { }
+
+    /**
+     * Clones this component within {@code context}; invoked by {@link CloneContext#copy(Component)}.
+     */
+    MutableComponent copyTree(CloneContext context) {
+        MutableComponent copy;
+        try {
+            copy = (MutableComponent) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("MutableComponent must be cloneable", e);
+        }
+        context.register(this, copy);
+        copy.frozen = false;
+        copy.watchers = null;
+        copy.cloneState(context);
+        return copy;
+    }
+
+    /**
+     * Registers {@code module}'s cache so the next {@link #markChanged()} invalidates it.
+     */
+    void watch(Module module, long generation) {
+        CacheWatchers registered = watchers;
+        if (registered == null) {
+            synchronized (CacheWatchers.class) {
+                registered = watchers;
+                if (registered == null) {
+                    watchers = registered = new CacheWatchers();
+                }
+            }
+        }
+        registered.add(module, generation);
+    }
+}
@@ -0,0 +1,206 @@
+package io.mindspice.simplypages.core;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Renders one large component tree with sibling subtrees split across a {@link ForkJoinPool}.
+ *
+ * <p>Very large pages (hundreds of cards in a grid, long post lists) otherwise render on a single
+ * thread. Before rendering, the renderer walks the tree once on the calling thread: modules are
+ * built (so generated ids and build order match a sequential render) and the cost of every tag
+ * subtree is estimated as its number of components. While rendering, a tag whose subtree costs at
+ * least the threshold splits its children into fork/join tasks; each task renders into its own
+ * buffer, and the buffers are joined in child order, so the output is byte-identical to
+ * {@code root.render(context)}:</p>
+ *
+ * <pre>{@code
+ * static final ParallelRenderer PARALLEL = ParallelRenderer.create().withThreshold(256);
+ *
+ * String html = PARALLEL.render(forumPage, ctx);
+ * }</pre>
+ *
+ * <p>Sequential fallback: the whole tree renders on the calling thread when it is cheaper than the
+ * threshold, when a {@link RenderBudget} is attached, when it contains a {@link Deferred} (whose
+ * placeholders depend on render order), or when one non-frozen tag instance is reachable twice.</p>
+ *
+ * <p>Requirements: non-tag components in the tree (custom {@link Component}s, slot values) must be
+ * safe to render concurrently, and the tree must not be mutated during the render. Each task reads
+ * slots through its own {@link RenderContext#overlay()}, so writes made by components during the
+ * render stay local to their task.</p>
+ *
+ * <p>Mutability/thread-safety: configure once, then treat as immutable and share; concurrent
+ * {@code render} calls on different trees are safe.</p>
+ */
+public final class ParallelRenderer {
+
+    private int threshold = 512;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    private ParallelRenderer() {
+    }
+
+    /**
+     * Creates a renderer with a threshold of 512 components on the common pool.
+     */
+    public static ParallelRenderer create() {
+        return new ParallelRenderer();
+    }
+
+    /**
+     * Sets the minimum estimated subtree cost, in components, worth splitting.
+     *
+     * @throws IllegalArgumentException when {@code components} is less than 2
+     */
+    public ParallelRenderer withThreshold(int components) {
+        if (components < 2) {
+            throw new IllegalArgumentException("threshold must be at least 2");
+        }
+        this.threshold = components;
+        return this;
+    }
+
+    /**
+     * Sets the pool that runs render tasks (default: {@link ForkJoinPool#commonPool()}).
+     */
+    public ParallelRenderer withPool(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool cannot be null");
+        return this;
+    }
+
+    /**
+     * Renders {@code root} with {@code context}, splitting large subtrees across the pool.
+     *
+     * @return the same HTML as {@code root.render(context)}
+     */
+    public String render(Component root, RenderContext context) {
+        Objects.requireNonNull(root, "root cannot be null");
+        Objects.requireNonNull(context, "context cannot be null");
+        Plan plan = new Plan(threshold);
+        int cost = plan.measure(root);
+        if (plan.sequentialOnly || cost < threshold || context.budget() != null) {
+            return root.render(context);
+        }
+        RenderContext scoped = context.overlay();
+        scoped.attachParallel(plan);
+        Rendered rendered = pool.invoke(new RenderTask(List.of(root), scoped));
+        context.countReads(rendered.reads());
+        return rendered.html();
+    }
+
+    /**
+     * Subtree costs measured before a parallel render; read-only while rendering.
+     */
+    static final class Plan {
+        private final int threshold;
+        private final Map<HtmlTag, Integer> costs = new IdentityHashMap<>();
+        private boolean sequentialOnly;
+
+        private Plan(int threshold) {
+            this.threshold = threshold;
+        }
+
+        /**
+         * Builds modules and records the component count of each tag subtree.
+         */
+        private int measure(Component component) {
+            if (component instanceof Deferred) {
+                sequentialOnly = true;
+                return 1;
+            }
+            if (!(component instanceof HtmlTag tag) || tag.frozenHtml() != null) {
+                return 1;
+            }
+            if (costs.containsKey(tag)) {
+                sequentialOnly |= !tag.isFrozen();
+                return costs.get(tag);
+            }
+            if (component instanceof Module module) {
+                module.build();
+            }
+            costs.put(tag, 1);
+            int total = tag.getChildrenStream().mapToInt(this::measure).sum() + 1;
+            costs.put(tag, total);
+            return total;
+        }
+
+        /**
+         * Returns whether {@code tag}'s children should be rendered as separate tasks.
+         */
+        boolean splits(HtmlTag tag) {
+            Integer cost = costs.get(tag);
+            return cost != null && cost >= threshold;
+        }
+
+        /**
+         * Renders {@code children} in parallel and appends their output to {@code sb} in order.
+         */
+        void renderChildren(List<Component> children, RenderContext context, StringBuilder sb) {
+            Rendered rendered = new RenderTask(children, context).invoke();
+            sb.append(rendered.html());
+            context.countReads(rendered.reads());
+        }
+
+        private int cost(Component component) {
+            if (component instanceof HtmlTag tag) {
+                return costs.getOrDefault(tag, 1);
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * Output of a run of siblings and the number of context reads it made.
+     */
+    private record Rendered(String html, int reads) {
+    }
+
+    /**
+     * Renders a run of sibling components, halving the run by cost while it is large enough.
+     */
+    private static final class RenderTask extends RecursiveTask<Rendered> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Component> components;
+        private final transient RenderContext context;
+
+        RenderTask(List<Component> components, RenderContext context) {
+            this.components = components;
+            this.context = context;
+        }
+
+        @Override
+        protected Rendered compute() {
+            Plan plan = context.parallel();
+            int size = components.size();
+            int total = 0;
+            for (Component component : components) {
+                total += plan.cost(component);
+            }
+            if (size < 2 || total < plan.threshold) {
+                RenderContext local = context.overlay();
+                StringBuilder sb = new StringBuilder();
+                for (Component component : components) {
+                    sb.append(HtmlTag.renderChild(component, local));
+                }
+                return new Rendered(sb.toString(), local.readCount());
+            }
+            int split = 1;
+            int leftCost = plan.cost(components.get(0));
+            while (split < size - 1 && leftCost + plan.cost(components.get(split)) <= total / 2) {
+                leftCost += plan.cost(components.get(split));
+                split++;
+            }
+            RenderTask left = new RenderTask(components.subList(0, split), context);
+            RenderTask right = new RenderTask(components.subList(split, size), context);
+            left.fork();
+            Rendered second = right.compute();
+            Rendered first = left.join();
+            return new Rendered(first.html() + second.html(), first.reads() + second.reads());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package io.mindspice.simplypages.core;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Output, nesting-depth, and time limits for one render, with fast abort to a fallback.
+ *
+ * <p>User-authored content (markdown modules, comments, forum posts) can make a single render
+ * arbitrarily expensive. A budget attached to the render context is checked as the render
+ * proceeds: every {@link HtmlTag} counts toward depth and output, and {@link Template} checks the
+ * budget before each dynamic segment. When a limit is hit, rendering unwinds to the nearest
+ * boundary, which emits the budget's fallback instead of its content:</p>
+ *
+ * <pre>{@code
+ * static final RenderBudget USER_CONTENT = RenderBudget.create()
+ *     .withMaxChars(500_000)
+ *     .withMaxDepth(48)
+ *     .withTimeout(Duration.ofMillis(40))
+ *     .withFallback(Alert.warning("This content is too large to display."));
+ *
+ * String html = THREAD_PAGE.render(USER_CONTENT.attach(ctx));
+ * }</pre>
+ *
+ * <p>Boundaries: every {@link Module}, every dynamic component of a {@link Template}, and any
+ * component wrapped with {@link #guard(Component)}.
+ * Once the deadline or output limit is hit, every later boundary in the same render falls back
+ * immediately, so the rest of the page costs almost nothing. A depth violation aborts only the
+ * offending subtree. Limits hit outside any boundary propagate as {@link ExceededException}.</p>
+ *
+ * <p>A boundary that falls back marks the render uncacheable, so enclosing {@link Module} render
+ * caches never keep truncated output.</p>
+ *
+ * <p>Output is counted in characters and is approximate: frozen and cached markup is charged as a
+ * whole, and slot values holding components may be counted twice.</p>
+ *
+ * <p>Mutability/thread-safety: configure once, then treat as immutable and share; each
+ * {@link #attach(RenderContext)} starts an independent, render-confined tracker.</p>
+ */
+public final class RenderBudget {
+
+    /** Deadline checks happen on every this-many tag entries (power of two). */
+    private static final int DEADLINE_CHECK_INTERVAL = 16;
+
+    private long maxChars = Long.MAX_VALUE;
+    private int maxDepth = Integer.MAX_VALUE;
+    private long timeoutNanos = Long.MAX_VALUE;
+    private String fallbackHtml = "";
+
+    private RenderBudget() {
+    }
+
+    /**
+     * Creates an unlimited budget with an empty fallback.
+     */
+    public static RenderBudget create() {
+        return new RenderBudget();
+    }
+
+    /**
+     * Limits rendered output to roughly {@code maxChars} characters.
+     *
+     * @throws IllegalArgumentException when {@code maxChars} is negative
+     */
+    public RenderBudget withMaxChars(long maxChars) {
+        if (maxChars < 0) {
+            throw new IllegalArgumentException("maxChars cannot be negative");
+        }
+        this.maxChars = maxChars;
+        return this;
+    }
+
+    /**
+     * Limits tag nesting to {@code maxDepth} levels below the render root.
+     *
+     * @throws IllegalArgumentException when {@code maxDepth} is less than 1
+     */
+    public RenderBudget withMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be at least 1");
+        }
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Limits render time to {@code timeout}, measured from {@link #attach(RenderContext)}.
+     *
+     * @throws IllegalArgumentException when {@code timeout} is negative
+     */
+    public RenderBudget withTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout cannot be negative");
+        }
+        this.timeoutNanos = timeout.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the component emitted in place of an aborted boundary (default: nothing).
+     *
+     * <p>The fallback is rendered once, here, with an empty context; it cannot depend on slots.</p>
+     */
+    public RenderBudget withFallback(Component fallback) {
+        this.fallbackHtml = Objects.requireNonNull(fallback, "fallback cannot be null").render(RenderContext.empty());
+        return this;
+    }
+
+    /**
+     * Starts a budget for one render in {@code context} and returns the context.
+     *
+     * <p>The time limit starts now. Overlays created from the context afterwards share the
+     * tracker.</p>
+     *
+     * @throws UnsupportedOperationException when {@code context} is shared
+     */
+    public RenderContext attach(RenderContext context) {
+        context.attachBudget(new Tracker(this, System.nanoTime()));
+        return context;
+    }
+
+    /**
+     * Wraps {@code content} in an abort boundary that renders the budget's fallback when a limit is
+     * hit inside it. Without an attached budget, {@code content} renders unchanged.
+     */
+    public static Component guard(Component content) {
+        Objects.requireNonNull(content, "content cannot be null");
+        return new Component() {
+            @Override
+            public String render(RenderContext context) {
+                Tracker budget = context.budget();
+                if (budget == null) {
+                    return content.render(context);
+                }
+                try {
+                    return content.render(context);
+                } catch (ExceededException e) {
+                    context.markUncacheable();
+                    return budget.fallbackHtml();
+                }
+            }
+        };
+    }
+
+    /**
+     * Thrown when a render exceeds its budget; carries no stack trace so unwinding stays cheap.
+     */
+    public static final class ExceededException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private ExceededException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Per-render usage against a {@link RenderBudget}; confined to the rendering thread.
+     */
+    static final class Tracker {
+        private final RenderBudget budget;
+        private final boolean timed;
+        private final long deadline;
+        private long chars;
+        private int depth;
+        private int entries;
+        private boolean expired;
+
+        Tracker(RenderBudget budget, long start) {
+            this.budget = budget;
+            this.timed = budget.timeoutNanos != Long.MAX_VALUE;
+            this.deadline = start + budget.timeoutNanos;
+        }
+
+        /**
+         * Enters one tag level.
+         *
+         * @throws ExceededException when the depth limit, output limit, or deadline is exceeded
+         */
+        void enter() {
+            if (depth >= budget.maxDepth) {
+                throw new ExceededException("Render depth exceeds " + budget.maxDepth);
+            }
+            if ((++entries & (DEADLINE_CHECK_INTERVAL - 1)) == 0) {
+                checkDeadline();
+            } else if (expired) {
+                throw new ExceededException("Render budget exhausted");
+            }
+            depth++;
+        }
+
+        /**
+         * Leaves one tag level.
+         */
+        void exit() {
+            depth--;
+        }
+
+        /**
+         * Adds {@code count} output characters.
+         *
+         * @throws ExceededException when the output limit is exceeded
+         */
+        void charge(long count) {
+            chars += count;
+            if (chars > budget.maxChars) {
+                expired = true;
+                throw new ExceededException("Render output exceeds " + budget.maxChars + " characters");
+            }
+        }
+
+        /**
+         * Adds {@code count} output characters without aborting; a later check fails when the
+         * output limit is exceeded.
+         */
+        void record(long count) {
+            chars += count;
+            if (chars > budget.maxChars) {
+                expired = true;
+            }
+        }
+
+        /**
+         * Checks the deadline and any earlier exhaustion.
+         *
+         * @throws ExceededException when the budget is exhausted
+         */
+        void checkDeadline() {
+            if (expired || (timed && System.nanoTime() - deadline > 0)) {
+                expired = true;
+                throw new ExceededException("Render budget exhausted");
+            }
+        }
+
+        /**
+         * Returns the pre-rendered fallback markup.
+         */
+        String fallbackHtml() {
+            return budget.fallbackHtml;
+        }
+    }
+}
@@ -12,9 +12,16 @@ import java.util.Optional;
  * discard. This type is intentionally mutable to support incremental population and optional
  * compile-on-first-hit slot caching.</p>
  *
+ * <p>Layering: {@link RenderContextBuilder#buildShared()} produces an immutable, thread-safe
+ * application-level context. {@link #overlay()} on it creates a small mutable per-request context
+ * whose lookups fall through to the shared parent when a key has no local entry, so per-request
+ * construction only pays for request-specific slots. Writes, removals, and compiled entries always
+ * apply to the overlay; parent values stay visible for keys the overlay does not define.</p>
+ *
  * <p>Mutability/thread-safety: mutable and not thread-safe. Use per request by default. Context
  * reuse is valid only when access is confined (no concurrent mutation), especially when using
- * {@link RenderPolicy#COMPILE_ON_FIRST_HIT}.</p>
+ * {@link RenderPolicy#COMPILE_ON_FIRST_HIT}. Shared contexts reject mutation and may be read
+ * concurrently.</p>
  */
 public class RenderContext {
     /**
@@ -29,15 +36,36 @@ public class RenderContext {
 
     /** Mutable slot storage keyed by logical slot identity. */
     private final Map<SlotKey<?>, SlotEntry> values;
+    /** Fallback context consulted for keys without a local entry; {@code null} for roots. */
+    private final RenderContext parent;
+    /** True for immutable contexts built with {@link RenderContextBuilder#buildShared()}. */
+    private final boolean shared;
     /** Active render policy for this context. */
     private RenderPolicy policy;
+    /** Cross-request cache for component-valued slots; {@code null} when unused. */
+    private SlotCache slotCache;
+    /** Number of slot lookups served; lets callers detect renders that never read this context. */
+    private int reads;
+    /** Limits checked while rendering; {@code null} when unbounded. */
+    private RenderBudget.Tracker budget;
+    /** Subtree costs of an active {@link ParallelRenderer} render; {@code null} when sequential. */
+    private ParallelRenderer.Plan parallel;
 
     /**
      * Creates a context from explicit slot entries and policy.
      */
     private RenderContext(Map<SlotKey<?>, SlotEntry> values, RenderPolicy policy) {
+        this(values, policy, null, false);
+    }
+
+    private RenderContext(Map<SlotKey<?>, SlotEntry> values, RenderPolicy policy, RenderContext parent, boolean shared) {
         this.values = values;
         this.policy = policy;
+        this.parent = parent;
+        this.shared = shared;
+        this.slotCache = parent != null ? parent.slotCache : null;
+        this.budget = parent != null ? parent.budget : null;
+        this.parallel = parent != null ? parent.parallel : null;
     }
 
     /**
@@ -54,6 +82,41 @@ public class RenderContext {
         return new RenderContextBuilder();
     }
 
+    /**
+     * Returns a builder whose built contexts fall through to {@code parent}.
+     *
+     * @param parent fallback context, typically built with {@link RenderContextBuilder#buildShared()}
+     */
+    public static RenderContextBuilder builder(RenderContext parent) {
+        return new RenderContextBuilder(Objects.requireNonNull(parent, "parent cannot be null"));
+    }
+
+    /**
+     * Creates an empty mutable context layered over this one.
+     *
+     * <p>The overlay inherits this context's policy. Lookups check the overlay first, then this
+     * context and its own parents.</p>
+     *
+     * @return new per-request overlay
+     */
+    public RenderContext overlay() {
+        return new RenderContext(new HashMap<>(), policy, this, false);
+    }
+
+    /**
+     * Returns the context this one falls through to, or {@code null}.
+     */
+    public RenderContext getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns whether this context is an immutable shared context.
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
     /**
      * Creates a context from raw slot values with default policy.
      *
@@ -84,7 +147,8 @@ public class RenderContext {
      */
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(SlotKey<T> key) {
-        SlotEntry entry = values.get(key);
+        countRead();
+        SlotEntry entry = lookup(key);
         return switch (entry) {
             case SlotEntry.LiveEntry live -> Optional.ofNullable((T) live.value());
             case SlotEntry.CompiledEntry ignored -> Optional.ofNullable(key.getDefault(this));
@@ -96,6 +160,7 @@ public class RenderContext {
      * Stores a live value for {@code key}; {@code null} removes the entry.
      */
     public <T> RenderContext put(SlotKey<T> key, T value) {
+        checkWritable();
         putUnchecked(key, value);
         return this;
     }
@@ -104,6 +169,7 @@ public class RenderContext {
      * Stores pre-rendered trusted HTML for {@code key}; {@code null} removes the entry.
      */
     public RenderContext putCompiled(SlotKey<?> key, String html) {
+        checkWritable();
         if (html == null) {
             values.remove(key);
             return this;
@@ -113,17 +179,19 @@ public class RenderContext {
     }
 
     /**
-     * Removes any entry for {@code key}.
+     * Removes any local entry for {@code key}; a parent value for the key becomes visible again.
      */
     public RenderContext remove(SlotKey<?> key) {
+        checkWritable();
         values.remove(key);
         return this;
     }
 
     /**
-     * Removes all entries from this context.
+     * Removes all local entries from this context; parent entries are unaffected.
      */
     public RenderContext clear() {
+        checkWritable();
         values.clear();
         return this;
     }
@@ -134,10 +202,30 @@ public class RenderContext {
      * @throws NullPointerException when {@code policy} is null
      */
     public RenderContext withPolicy(RenderPolicy policy) {
+        checkWritable();
         this.policy = Objects.requireNonNull(policy, "policy cannot be null");
         return this;
     }
 
+    /**
+     * Attaches a cross-request {@link SlotCache} consulted under
+     * {@link RenderPolicy#COMPILE_ON_FIRST_HIT}; overlays and child contexts inherit it.
+     *
+     * @param slotCache cache to use, or {@code null} to detach
+     */
+    public RenderContext withSlotCache(SlotCache slotCache) {
+        checkWritable();
+        this.slotCache = slotCache;
+        return this;
+    }
+
+    /**
+     * Returns the attached slot cache, or {@code null}.
+     */
+    public SlotCache getSlotCache() {
+        return slotCache;
+    }
+
     /**
      * Returns current render policy.
      */
@@ -149,14 +237,16 @@ public class RenderContext {
      * Returns whether {@code key} currently maps to a compiled entry.
      */
     public boolean isCompiled(SlotKey<?> key) {
-        return values.get(key) instanceof SlotEntry.CompiledEntry;
+        countRead();
+        return lookup(key) instanceof SlotEntry.CompiledEntry;
     }
 
     /**
      * Returns compiled HTML for {@code key} when a compiled entry exists.
      */
     public Optional<String> getCompiled(SlotKey<?> key) {
-        SlotEntry entry = values.get(key);
+        countRead();
+        SlotEntry entry = lookup(key);
         return switch (entry) {
             case SlotEntry.CompiledEntry compiled -> Optional.ofNullable(compiled.html());
             case SlotEntry.LiveEntry ignored -> Optional.empty();
@@ -165,17 +255,153 @@ public class RenderContext {
     }
 
     /**
-     * Returns an immutable snapshot of stored entries.
+     * Returns an immutable snapshot of stored entries, including inherited parent entries that are
+     * not overridden locally.
      */
     public Map<SlotKey<?>, SlotEntry> getEntries() {
-        return Map.copyOf(values);
+        countRead();
+        if (parent == null) {
+            return Map.copyOf(values);
+        }
+        Map<SlotKey<?>, SlotEntry> merged = new HashMap<>(parent.getEntries());
+        merged.putAll(values);
+        return Map.copyOf(merged);
     }
 
     /**
      * Internal lookup of raw slot entry, including compiled entries.
      */
     Optional<SlotEntry> getEntry(SlotKey<?> key) {
-        return Optional.ofNullable(values.get(key));
+        countRead();
+        return Optional.ofNullable(lookup(key));
+    }
+
+    /**
+     * Resolves the nearest entry for {@code key} along the parent chain.
+     */
+    private SlotEntry lookup(SlotKey<?> key) {
+        SlotEntry entry = values.get(key);
+        if (entry != null || parent == null) {
+            return entry;
+        }
+        return parent.lookup(key);
+    }
+
+    /**
+     * Counts a lookup; shared contexts are read concurrently and keep no counter.
+     */
+    private void countRead() {
+        if (!shared) {
+            reads++;
+        }
+    }
+
+    /**
+     * Rejects mutation of shared contexts.
+     *
+     * @throws UnsupportedOperationException when this context is shared
+     */
+    private void checkWritable() {
+        if (shared) {
+            throw new UnsupportedOperationException("Shared RenderContext is immutable; write to an overlay() instead");
+        }
+    }
+
+    /**
+     * Creates a root context over a caller-supplied entry map, such as a {@link SlotKeyMap} view.
+     */
+    static RenderContext backedBy(Map<SlotKey<?>, SlotEntry> values) {
+        return new RenderContext(values, RenderPolicy.NEVER_COMPILE);
+    }
+
+    /**
+     * Returns the render budget tracker attached by {@link RenderBudget#attach(RenderContext)}, or
+     * {@code null}. Does not count as a slot read.
+     */
+    RenderBudget.Tracker budget() {
+        return budget;
+    }
+
+    /**
+     * Attaches a render budget tracker; overlays created afterwards share it.
+     *
+     * @throws UnsupportedOperationException when this context is shared
+     */
+    void attachBudget(RenderBudget.Tracker budget) {
+        checkWritable();
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the plan of the {@link ParallelRenderer} render in progress, or {@code null}.
+     */
+    ParallelRenderer.Plan parallel() {
+        return parallel;
+    }
+
+    /**
+     * Attaches a parallel render plan; overlays created afterwards share it.
+     *
+     * @throws UnsupportedOperationException when this context is shared
+     */
+    void attachParallel(ParallelRenderer.Plan parallel) {
+        checkWritable();
+        this.parallel = parallel;
+    }
+
+    /**
+     * Adds lookups served by task overlays of a parallel render, so render caches comparing
+     * {@link #readCount()} see them.
+     */
+    void countReads(int count) {
+        if (!shared) {
+            reads += count;
+        }
+    }
+
+    /**
+     * Marks the render in progress as dependent on transient state (a budget or error fallback was
+     * substituted), so enclosing render caches do not keep its output.
+     */
+    void markUncacheable() {
+        countReads(1);
+    }
+
+    /**
+     * Creates an empty root context for {@link RenderPool}; its map keeps its capacity across
+     * {@link #reset()} calls.
+     */
+    static RenderContext pooled() {
+        return new RenderContext(new HashMap<>(), RenderPolicy.NEVER_COMPILE);
+    }
+
+    /**
+     * Restores a pooled context to the state of a freshly built empty one.
+     */
+    void reset() {
+        values.clear();
+        policy = RenderPolicy.NEVER_COMPILE;
+        slotCache = null;
+        budget = null;
+        parallel = null;
+    }
+
+    /**
+     * Returns how many slot lookups this context has served.
+     *
+     * <p>Render caches compare counts before and after a render: an unchanged count means the
+     * output did not depend on context values.</p>
+     */
+    int readCount() {
+        return reads;
+    }
+
+    /**
+     * Sets the slot cache during construction, bypassing the shared-context write check.
+     */
+    private RenderContext attach(SlotCache slotCache) {
+        this.slotCache = slotCache;
+        return this;
     }
 
     /**
@@ -200,6 +426,23 @@ public class RenderContext {
         private final Map<SlotKey<?>, SlotEntry> map = new HashMap<>();
         /** Builder-local policy value. */
         private RenderPolicy policy = RenderPolicy.NEVER_COMPILE;
+        /** Slot cache for the built context. */
+        private SlotCache slotCache;
+        /** Parent for built contexts; {@code null} for root contexts. */
+        private final RenderContext parent;
+
+        /**
+         * Creates a builder for root contexts.
+         */
+        public RenderContextBuilder() {
+            this.parent = null;
+        }
+
+        private RenderContextBuilder(RenderContext parent) {
+            this.parent = parent;
+            this.policy = parent.getPolicy();
+            this.slotCache = parent.getSlotCache();
+        }
 
         /**
          * Stores a live value for {@code key}; {@code null} removes the entry.
@@ -223,11 +466,30 @@ public class RenderContext {
             return this;
         }
 
+        /**
+         * Attaches a cross-request {@link SlotCache} to the built context.
+         */
+        public RenderContextBuilder withSlotCache(SlotCache slotCache) {
+            this.slotCache = slotCache;
+            return this;
+        }
+
         /**
          * Builds a new context from a defensive copy of current builder state.
          */
         public RenderContext build() {
-            return new RenderContext(new HashMap<>(map), policy);
+            return new RenderContext(new HashMap<>(map), policy, parent, false).attach(slotCache);
+        }
+
+        /**
+         * Builds an immutable, thread-safe context intended as the shared parent of per-request
+         * {@link RenderContext#overlay() overlays}.
+         *
+         * <p>Mutators on the result throw {@link UnsupportedOperationException}. Slot values should
+         * themselves be immutable or safely shareable.</p>
+         */
+        public RenderContext buildShared() {
+            return new RenderContext(Map.copyOf(map), policy, parent, true).attach(slotCache);
         }
     }
 }
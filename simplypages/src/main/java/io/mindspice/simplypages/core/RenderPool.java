@@ -0,0 +1,149 @@
+package io.mindspice.simplypages.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of cleared {@link RenderContext} instances and size-classed output buffers backing
+ * {@link RenderScope}.
+ *
+ * <p>Pooling is opt-in: {@link Template#render(RenderContext)} and {@link RenderContext#builder()}
+ * allocate as before. Hot render paths that build a context and an output buffer per request can
+ * open a scope instead and reuse both.</p>
+ *
+ * <p>Buffers are kept in power-of-four size classes from 1 KiB to 256 KiB. A request for a buffer
+ * is served from the smallest class that fits the template's size hint; buffers that grew past the
+ * largest class are dropped on release rather than retained.</p>
+ *
+ * <p>Virtual threads: the pool is a shared lock-free queue rather than a {@code ThreadLocal}, so
+ * reuse works the same on platform threads and on virtual threads, which never revisit their
+ * thread-local state and would otherwise each pin a private context and buffer.</p>
+ *
+ * <p>Mutability/thread-safety: thread-safe. Pooled objects are confined to one scope between
+ * acquire and release.</p>
+ */
+public final class RenderPool {
+
+    /** Buffer capacities, smallest first. */
+    private static final int[] SIZE_CLASSES = {1 << 10, 1 << 12, 1 << 14, 1 << 16, 1 << 18};
+
+    private static final RenderPool SHARED = new RenderPool(64);
+
+    private final Bin<RenderContext> contexts;
+    /** One bin per entry of {@link #SIZE_CLASSES}. */
+    private final List<Bin<StringBuilder>> buffers;
+
+    /**
+     * Creates a pool that keeps at most {@code maxIdle} contexts and {@code maxIdle} buffers per
+     * size class.
+     *
+     * @throws IllegalArgumentException when {@code maxIdle} is less than 1
+     */
+    public RenderPool(int maxIdle) {
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("maxIdle must be at least 1");
+        }
+        this.contexts = new Bin<>(maxIdle);
+        List<Bin<StringBuilder>> bins = new ArrayList<>(SIZE_CLASSES.length);
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            bins.add(new Bin<>(maxIdle));
+        }
+        this.buffers = List.copyOf(bins);
+    }
+
+    /**
+     * Returns the process-wide pool used by {@link RenderScope#open()}.
+     */
+    public static RenderPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Opens a scope holding a cleared context from this pool.
+     */
+    public RenderScope open() {
+        RenderContext context = contexts.poll();
+        return new RenderScope(this, context != null ? context : RenderContext.pooled());
+    }
+
+    /**
+     * Returns a scope's context to the pool after clearing it.
+     */
+    void release(RenderContext context) {
+        context.reset();
+        contexts.offer(context);
+    }
+
+    /**
+     * Returns an empty buffer with capacity of at least {@code sizeHint}.
+     */
+    StringBuilder acquireBuffer(int sizeHint) {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            if (sizeHint <= SIZE_CLASSES[i]) {
+                StringBuilder sb = buffers.get(i).poll();
+                return sb != null ? sb : new StringBuilder(SIZE_CLASSES[i]);
+            }
+        }
+        return new StringBuilder(sizeHint);
+    }
+
+    /**
+     * Clears {@code sb} and files it under the largest size class its capacity satisfies; buffers
+     * smaller than the smallest class or larger than the largest are dropped.
+     */
+    void releaseBuffer(StringBuilder sb) {
+        int capacity = sb.capacity();
+        if (capacity > SIZE_CLASSES[SIZE_CLASSES.length - 1]) {
+            return;
+        }
+        for (int i = SIZE_CLASSES.length - 1; i >= 0; i--) {
+            if (capacity >= SIZE_CLASSES[i]) {
+                sb.setLength(0);
+                buffers.get(i).offer(sb);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns how many contexts are currently idle in the pool.
+     */
+    int idleContexts() {
+        return contexts.size();
+    }
+
+    /**
+     * Lock-free bounded free list.
+     */
+    private static final class Bin<T> {
+        private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int max;
+
+        Bin(int max) {
+            this.max = max;
+        }
+
+        T poll() {
+            T item = queue.poll();
+            if (item != null) {
+                size.decrementAndGet();
+            }
+            return item;
+        }
+
+        void offer(T item) {
+            if (size.incrementAndGet() > max) {
+                size.decrementAndGet();
+                return;
+            }
+            queue.offer(item);
+        }
+
+        int size() {
+            return size.get();
+        }
+    }
+}
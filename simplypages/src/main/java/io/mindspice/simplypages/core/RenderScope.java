@@ -0,0 +1,80 @@
+package io.mindspice.simplypages.core;
+
+/**
+ * Pooled render scope: a cleared {@link RenderContext} plus reused output buffers, returned to their
+ * {@link RenderPool} on {@link #close()}.
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * try (RenderScope scope = RenderScope.open()) {
+ *     scope.context().put(TITLE, "Dashboard");
+ *     return scope.render(PAGE);
+ * }
+ * }</pre>
+ *
+ * <p>Buffers are sized from each template's last output size (see
+ * {@link Template#renderTo(RenderContext, StringBuilder)}), so steady-state renders neither resize
+ * nor allocate a builder.</p>
+ *
+ * <p>Lifecycle: the context belongs to the pool once the scope is closed; do not keep references to
+ * it past the try block. Pooled contexts are root contexts with the default
+ * {@link RenderContext.RenderPolicy#NEVER_COMPILE} policy.</p>
+ *
+ * <p>Mutability/thread-safety: mutable and not thread-safe; confine a scope to one render flow.</p>
+ */
+public final class RenderScope implements AutoCloseable {
+
+    private final RenderPool pool;
+    private RenderContext context;
+
+    RenderScope(RenderPool pool, RenderContext context) {
+        this.pool = pool;
+        this.context = context;
+    }
+
+    /**
+     * Opens a scope on the {@linkplain RenderPool#shared() shared pool}.
+     */
+    public static RenderScope open() {
+        return RenderPool.shared().open();
+    }
+
+    /**
+     * Returns this scope's context, empty when the scope was opened.
+     *
+     * @throws IllegalStateException when the scope is closed
+     */
+    public RenderContext context() {
+        if (context == null) {
+            throw new IllegalStateException("RenderScope is closed");
+        }
+        return context;
+    }
+
+    /**
+     * Renders {@code template} against this scope's context using a pooled buffer.
+     *
+     * @throws IllegalStateException when the scope is closed
+     */
+    public String render(Template template) {
+        RenderContext ctx = context();
+        StringBuilder sb = pool.acquireBuffer(template.sizeHint());
+        try {
+            template.renderTo(ctx, sb);
+            return sb.toString();
+        } finally {
+            pool.releaseBuffer(sb);
+        }
+    }
+
+    /**
+     * Clears the context and returns it to the pool; later calls are no-ops.
+     */
+    @Override
+    public void close() {
+        if (context != null) {
+            pool.release(context);
+            context = null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.mindspice.simplypages.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+
+/**
+ * Receives each result of a bulk render ({@link Template#renderAll(Iterable, RenderSink)}).
+ *
+ * <p>{@code html} is the reused render buffer: it is valid only during the call and must not be
+ * retained. Call {@code toString()} to keep a copy. Sinks passed to parallel renders are called
+ * concurrently and must be thread-safe.</p>
+ */
+@FunctionalInterface
+public interface RenderSink {
+
+    /**
+     * Handles the output rendered for {@code context}.
+     *
+     * @throws IOException when delivery fails; bulk renders rethrow it as
+     *                     {@link java.io.UncheckedIOException}
+     */
+    void accept(RenderContext context, CharSequence html) throws IOException;
+
+    /**
+     * Returns a sink writing each result as UTF-8 to the file chosen for its context, replacing
+     * existing content.
+     *
+     * <p>The buffer is encoded straight into a file channel, without an intermediate {@code String}.</p>
+     */
+    static RenderSink toFiles(Function<? super RenderContext, Path> pathFor) {
+        return (context, html) -> {
+            try (FileChannel channel = FileChannel.open(pathFor.apply(context),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeUtf8(channel, html);
+            }
+        };
+    }
+
+    private static void writeUtf8(WritableByteChannel channel, CharSequence html) throws IOException {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer in = CharBuffer.wrap(html);
+        ByteBuffer out = ByteBuffer.allocate(8192);
+        CoderResult result;
+        do {
+            result = encoder.encode(in, out, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(out);
+            }
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            out.clear();
+        } while (result.isOverflow());
+    }
+}
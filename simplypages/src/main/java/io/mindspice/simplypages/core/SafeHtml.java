@@ -0,0 +1,100 @@
+package io.mindspice.simplypages.core;
+
+import java.util.Objects;
+
+/**
+ * Already-rendered HTML fragment that is inserted verbatim wherever it is used.
+ *
+ * <p>Construction: instances come from framework renderers ({@link #of(Component, RenderContext)},
+ * {@link Template#renderSafe(RenderContext)}) or from the explicit {@link #trust(String)} call.
+ * There is no public constructor, so a {@code SafeHtml} value always marks a deliberate trust
+ * decision.</p>
+ *
+ * <p>Rendering: as a slot value, child component, or {@link HtmlTag#withInnerHtml(SafeHtml)}
+ * content the fragment is appended without escaping and without a wrapper component.</p>
+ *
+ * <p>Mutability/thread-safety: immutable and thread-safe.</p>
+ */
+public final class SafeHtml implements ImmutableComponent {
+
+    /** Empty fragment. */
+    public static final SafeHtml EMPTY = new SafeHtml("");
+
+    private final String html;
+
+    private SafeHtml(String html) {
+        this.html = html;
+    }
+
+    /**
+     * Marks {@code html} as trusted markup.
+     *
+     * <p>Security contract: call only with HTML produced by trusted code or sanitized input.</p>
+     *
+     * @param html trusted HTML fragment
+     * @return safe fragment wrapping {@code html}
+     * @throws NullPointerException when {@code html} is {@code null}
+     */
+    public static SafeHtml trust(String html) {
+        return new SafeHtml(Objects.requireNonNull(html, "html"));
+    }
+
+    /**
+     * Renders {@code component} against {@code context} and keeps the output as a safe fragment.
+     *
+     * @param component component to render
+     * @param context render context
+     * @return rendered fragment
+     */
+    public static SafeHtml of(Component component, RenderContext context) {
+        if (component instanceof SafeHtml safe) {
+            return safe;
+        }
+        return new SafeHtml(component.render(context));
+    }
+
+    /**
+     * Renders {@code component} with an empty context and keeps the output as a safe fragment.
+     *
+     * @param component component to render
+     * @return rendered fragment
+     */
+    public static SafeHtml of(Component component) {
+        return of(component, RenderContext.empty());
+    }
+
+    /**
+     * Returns the wrapped HTML.
+     */
+    public String html() {
+        return html;
+    }
+
+    /**
+     * Returns the wrapped HTML; the context is not consulted.
+     */
+    @Override
+    public String render(RenderContext context) {
+        return html;
+    }
+
+    @Override
+    public String render() {
+        return html;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SafeHtml other && html.equals(other.html);
+    }
+
+    @Override
+    public int hashCode() {
+        return html.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return html;
+    }
+}
@@ -0,0 +1,185 @@
+package io.mindspice.simplypages.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Array-backed list whose storage can be shared between copies until one of them is mutated.
+ *
+ * <p>Used for {@link HtmlTag} attribute and child lists so {@link HtmlTag#cloneTree()} can hand
+ * the same backing array to prototype and clone. The first write on either side copies the array
+ * before mutating it.</p>
+ *
+ * <p>Lists owned by a frozen tag are locked via {@link #freeze()}; every write then throws
+ * {@link IllegalStateException}, including writes subclasses make to the protected lists directly.</p>
+ *
+ * <p>Mutability/thread-safety: mutable and not thread-safe. {@link #share()} writes the source only
+ * the first time it is shared, so once a list has been shared (or frozen) concurrent
+ * {@link #share()} calls only read it.</p>
+ *
+ * @param <E> element type
+ */
+final class SharedList<E> extends AbstractList<E> implements RandomAccess {
+    private static final Object[] EMPTY = new Object[0];
+
+    /** Backing storage; may be referenced by other lists while {@link #shared} is set. */
+    private Object[] elements;
+    /** Number of live elements in {@link #elements}. */
+    private int size;
+    /** True when {@link #elements} may be referenced by another list. */
+    private boolean shared;
+    /** True once the owning tag is frozen; all writes are rejected. */
+    private boolean frozen;
+    /** Tag notified before each write, or {@code null}. */
+    private HtmlTag owner;
+
+    /**
+     * Creates an empty list.
+     */
+    SharedList() {
+        this.elements = EMPTY;
+    }
+
+    private SharedList(Object[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+        this.shared = true;
+    }
+
+    /**
+     * Creates a list holding a copy of {@code source}.
+     */
+    static <E> SharedList<E> copyOf(Collection<? extends E> source) {
+        Object[] array = source.toArray();
+        SharedList<E> list = new SharedList<>(array, array.length);
+        list.shared = false;
+        return list;
+    }
+
+    /**
+     * Returns a list backed by the same storage; both sides copy on their next write.
+     */
+    SharedList<E> share() {
+        // Frozen lists never write, and already shared ones stay shared until their next write.
+        if (!shared && !frozen) {
+            shared = true;
+        }
+        return new SharedList<>(elements, size);
+    }
+
+    /**
+     * Rejects all further writes to this list.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Makes every later write, including in-place {@link #set(int, Object)}, report a change on
+     * {@code owner}.
+     *
+     * @return this list
+     */
+    SharedList<E> ownedBy(HtmlTag owner) {
+        this.owner = owner;
+        return this;
+    }
+
+    /**
+     * Returns {@code list} as a shareable copy, sharing storage when it is already a {@link SharedList}.
+     */
+    static <E> SharedList<E> shareOf(List<E> list) {
+        return list instanceof SharedList<E> sharedList ? sharedList.share() : copyOf(list);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index, size);
+        ensureOwned(size);
+        E previous = (E) elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+        ensureOwned(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index, size);
+        ensureOwned(size);
+        E previous = (E) elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        checkWritable();
+        if (size == 0) {
+            return;
+        }
+        if (shared) {
+            elements = EMPTY;
+            shared = false;
+        } else {
+            Arrays.fill(elements, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Makes {@link #elements} private to this list with room for {@code minCapacity} elements.
+     */
+    private void ensureOwned(int minCapacity) {
+        checkWritable();
+        if (shared) {
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, size + (size >> 1) + 1));
+            shared = false;
+        } else if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length + (elements.length >> 1) + 4));
+        }
+    }
+
+    private void checkWritable() {
+        if (frozen) {
+            throw new IllegalStateException("List belongs to a frozen HtmlTag and cannot be modified");
+        }
+        if (owner != null) {
+            owner.fireChanged();
+        }
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
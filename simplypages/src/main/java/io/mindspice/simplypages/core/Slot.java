@@ -1,7 +1,5 @@
 package io.mindspice.simplypages.core;
 
-import org.owasp.encoder.Encode;
-
 import java.util.Optional;
 
 /**
@@ -9,6 +7,8 @@ import java.util.Optional;
  *
  * <p>Rendering contract:</p>
  * <p>- missing value: renders empty string</p>
+ * <p>- value matches a typed key's {@link SlotFormat}: written without escaping</p>
+ * <p>- value is {@link SafeHtml}: appends the fragment verbatim</p>
  * <p>- value is {@link Component}: delegates to that component's render path</p>
  * <p>- all other values: HTML-escapes {@code toString()}</p>
  * <p>- applies equally for direct component rendering and {@link Template} rendering</p>
@@ -52,12 +52,20 @@ public class Slot<T> implements Component {
         }
 
         Object value = valueOpt.get();
-        if (value instanceof Component) {
+        if (key.format() != null) {
+            StringBuilder sb = new StringBuilder();
+            if (key.format().tryAppend(value, sb)) {
+                return sb.toString();
+            }
+        }
+        if (value instanceof SafeHtml safe) {
+            return safe.html();
+        } else if (value instanceof Component) {
             return ((Component) value).render(context);
         } else if (value != null) {
             // For strings/other types, we assume they need escaping unless specific slot types dictate otherwise.
             // But since Slot<T> is generic, we default to toString() + escape.
-            return Encode.forHtml(value.toString());
+            return HtmlEscaper.forHtml(value.toString());
         }
         return "";
     }
@@ -0,0 +1,444 @@
+package io.mindspice.simplypages.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Binds record or bean properties to {@link SlotKey}s, and form data back to typed values.
+ *
+ * <p>Properties are matched to keys by name: record components by component name, beans by their
+ * {@code getX()}/{@code isX()} getter and optional {@code setX(..)} setter. All lookup happens once
+ * when the binder is created; each accessor is kept as a {@link MethodHandle}, so per-request
+ * binding performs no reflection. Create binders once and keep them in static fields.</p>
+ *
+ * <pre>{@code
+ * static final Template CARD = Template.of(...);   // slots "title", "price", "inStock"
+ * static final SlotBinder<Product> PRODUCT = SlotBinder.of(Product.class, CARD);
+ *
+ * return CARD.render(PRODUCT.bind(product, RenderContext.empty()));
+ *
+ * // POST: form fields back into typed values
+ * Product edited = PRODUCT.fromForm(formData);
+ * }</pre>
+ *
+ * <p>Form conversion: {@code String}, primitives and their wrappers, {@link BigDecimal}, enums (by
+ * constant name), {@link LocalDate}, {@link LocalTime}, and {@link LocalDateTime} (ISO formats) are
+ * parsed; properties of other types are skipped. Booleans follow checkbox semantics: present and
+ * not {@code "false"} is {@code true}, absent is {@code false}. Other absent fields are left
+ * unchanged; blank non-string fields become {@code null}, or the zero value for primitives.</p>
+ *
+ * <p>Mutability/thread-safety: immutable and thread-safe.</p>
+ *
+ * @param <T> bound record or bean type
+ */
+public final class SlotBinder<T> {
+
+    private final Class<T> type;
+    /** Every readable property, by name. */
+    private final Map<String, Property> properties;
+    /** Properties bound to a slot key, in key order. */
+    private final Property[] bound;
+    /** Canonical record constructor taking {@code Object[]}, or {@code null} for beans. */
+    private final MethodHandle constructor;
+    /** Record components in constructor order, or {@code null} for beans. */
+    private final Property[] components;
+
+    private SlotBinder(Class<T> type, Map<String, Property> properties, Property[] bound,
+                       MethodHandle constructor, Property[] components) {
+        this.type = type;
+        this.properties = properties;
+        this.bound = bound;
+        this.constructor = constructor;
+        this.components = components;
+    }
+
+    /**
+     * Creates a binder for {@code keys}; every key must name a readable property of {@code type}.
+     *
+     * @throws IllegalArgumentException when a key has no matching property, a typed key's value
+     *                                  type does not accept the property type, or a property is
+     *                                  not accessible
+     */
+    public static <T> SlotBinder<T> of(Class<T> type, SlotKey<?>... keys) {
+        return create(type, List.of(keys), true);
+    }
+
+    /**
+     * Creates a binder for the slots of {@code template} that name a property of {@code type};
+     * other slots are ignored.
+     *
+     * <p>Only slots compiled into the template are seen, not slots inside dynamic components.</p>
+     *
+     * @throws IllegalArgumentException when a typed key's value type does not accept the property
+     *                                  type, or a property is not accessible
+     */
+    public static <T> SlotBinder<T> of(Class<T> type, Template template) {
+        List<SlotKey<?>> keys = new ArrayList<>();
+        template.forEachSlotKey(keys::add);
+        return create(type, keys, false);
+    }
+
+    private static <T> SlotBinder<T> create(Class<T> type, List<SlotKey<?>> keys, boolean strict) {
+        Objects.requireNonNull(type, "type cannot be null");
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Map<String, Property> properties = new LinkedHashMap<>();
+        MethodHandle constructor = null;
+        Property[] components = null;
+
+        if (type.isRecord()) {
+            RecordComponent[] recordComponents = type.getRecordComponents();
+            components = new Property[recordComponents.length];
+            Class<?>[] types = new Class<?>[recordComponents.length];
+            for (int i = 0; i < recordComponents.length; i++) {
+                RecordComponent component = recordComponents[i];
+                types[i] = component.getType();
+                components[i] = new Property(component.getName(), component.getType(),
+                    getter(lookup, component.getAccessor()), null);
+                properties.put(component.getName(), components[i]);
+            }
+            constructor = constructor(lookup, type, types);
+        } else {
+            for (Method method : type.getMethods()) {
+                String name = propertyName(method);
+                if (name != null) {
+                    Method setter = findSetter(type, name, method.getReturnType());
+                    properties.put(name, new Property(name, method.getReturnType(), getter(lookup, method),
+                        setter == null ? null : setter(lookup, setter)));
+                }
+            }
+        }
+
+        List<Property> bound = new ArrayList<>();
+        for (SlotKey<?> key : keys) {
+            Property property = properties.get(key.name());
+            if (property != null) {
+                checkKeyType(type, key, property);
+                bound.add(property.withKey(key));
+            } else if (strict) {
+                throw new IllegalArgumentException("No property '" + key.name() + "' on " + type.getName());
+            }
+        }
+        return new SlotBinder<>(type, properties, bound.toArray(Property[]::new), constructor, components);
+    }
+
+    /**
+     * Rejects a typed key whose value type cannot hold the (boxed) property type; untyped keys
+     * carry no type and are not checked.
+     */
+    private static void checkKeyType(Class<?> type, SlotKey<?> key, Property property) {
+        if (key.format() == null) {
+            return;
+        }
+        Class<?> boxed = MethodType.methodType(property.type).wrap().returnType();
+        if (!key.format().type().isAssignableFrom(boxed)) {
+            throw new IllegalArgumentException("Slot key '" + key.name() + "' holds " + key.format().type().getName()
+                + " but property '" + property.name + "' on " + type.getName() + " is " + property.type.getName());
+        }
+    }
+
+    /**
+     * Returns the bound type.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Stores each bound property of {@code source} in {@code context} and returns the context;
+     * {@code null} property values remove the slot entry.
+     */
+    public RenderContext bind(T source, RenderContext context) {
+        Objects.requireNonNull(source, "source cannot be null");
+        for (Property property : bound) {
+            property.put(context, property.get(source));
+        }
+        return context;
+    }
+
+    /**
+     * Parses the form fields of the bound slots and stores the typed values in {@code context}.
+     *
+     * @return {@code context}
+     * @throws IllegalArgumentException when a field value cannot be parsed
+     */
+    public RenderContext read(Map<String, String> formData, RenderContext context) {
+        for (Property property : bound) {
+            if (property.present(formData)) {
+                property.put(context, property.parse(formData));
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Creates a record instance from form fields named after its components.
+     *
+     * @throws IllegalStateException when the bound type is not a record or a component type cannot
+     *                               be parsed
+     * @throws IllegalArgumentException when a field value cannot be parsed
+     */
+    public T fromForm(Map<String, String> formData) {
+        if (constructor == null) {
+            throw new IllegalStateException(type.getName() + " is not a record; use applyForm");
+        }
+        Object[] args = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Property component = components[i];
+            if (component.parser == null) {
+                throw new IllegalStateException("Cannot parse record component '" + component.name + "' of type "
+                    + component.type.getName());
+            }
+            Object value = component.present(formData) ? component.parse(formData) : null;
+            args[i] = value == null ? component.zero : value;
+        }
+        try {
+            return type.cast(constructor.invokeExact(args));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Applies form fields to the writable bean properties of {@code target} and returns it.
+     *
+     * @throws IllegalStateException when the bound type is a record
+     * @throws IllegalArgumentException when a field value cannot be parsed
+     */
+    public T applyForm(T target, Map<String, String> formData) {
+        Objects.requireNonNull(target, "target cannot be null");
+        if (constructor != null) {
+            throw new IllegalStateException(type.getName() + " is a record; use fromForm");
+        }
+        for (Property property : properties.values()) {
+            if (property.setter == null || !property.present(formData)) {
+                continue;
+            }
+            Object value = property.parse(formData);
+            if (value != null || !property.type.isPrimitive()) {
+                property.set(target, value);
+            }
+        }
+        return target;
+    }
+
+    private static String propertyName(Method method) {
+        if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())
+            || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3 && method.getReturnType() != void.class) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Method findSetter(Class<?> type, String name, Class<?> propertyType) {
+        try {
+            Method setter = type.getMethod("set" + Character.toUpperCase(name.charAt(0)) + name.substring(1), propertyType);
+            return Modifier.isStatic(setter.getModifiers()) ? null : setter;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle getter(MethodHandles.Lookup lookup, Method method) {
+        return unreflect(lookup, method).asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    private static MethodHandle setter(MethodHandles.Lookup lookup, Method method) {
+        return unreflect(lookup, method).asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        method.trySetAccessible();
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access " + method, e);
+        }
+    }
+
+    private static MethodHandle constructor(MethodHandles.Lookup lookup, Class<?> type, Class<?>[] types) {
+        try {
+            Constructor<?> canonical = type.getDeclaredConstructor(types);
+            canonical.trySetAccessible();
+            return lookup.unreflectConstructor(canonical)
+                .asSpreader(Object[].class, types.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access canonical constructor of " + type.getName(), e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(e);
+    }
+
+    /**
+     * Returns a parser from non-blank form text to {@code type}, or {@code null} when unsupported.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> parser(Class<?> type) {
+        if (type == String.class) {
+            return text -> text;
+        }
+        if (type == int.class || type == Integer.class) {
+            return Integer::valueOf;
+        }
+        if (type == long.class || type == Long.class) {
+            return Long::valueOf;
+        }
+        if (type == double.class || type == Double.class) {
+            return Double::valueOf;
+        }
+        if (type == float.class || type == Float.class) {
+            return Float::valueOf;
+        }
+        if (type == short.class || type == Short.class) {
+            return Short::valueOf;
+        }
+        if (type == byte.class || type == Byte.class) {
+            return Byte::valueOf;
+        }
+        if (type == char.class || type == Character.class) {
+            return text -> text.charAt(0);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return text -> !"false".equalsIgnoreCase(text);
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal::new;
+        }
+        if (type == LocalDate.class) {
+            return LocalDate::parse;
+        }
+        if (type == LocalTime.class) {
+            return LocalTime::parse;
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime::parse;
+        }
+        if (type.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+            return text -> Enum.valueOf(enumType, text);
+        }
+        return null;
+    }
+
+    private static Object zero(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        try {
+            return MethodHandles.zero(type).invoke();
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * One readable property with its precomputed accessors and form parser.
+     */
+    private static final class Property {
+        private final String name;
+        private final Class<?> type;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final Function<String, Object> parser;
+        private final Object zero;
+        private final SlotKey<Object> key;
+
+        Property(String name, Class<?> type, MethodHandle getter, MethodHandle setter) {
+            this(name, type, getter, setter, null);
+        }
+
+        private Property(String name, Class<?> type, MethodHandle getter, MethodHandle setter, SlotKey<Object> key) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+            this.parser = parser(type);
+            this.zero = zero(type);
+            this.key = key;
+        }
+
+        @SuppressWarnings("unchecked")
+        Property withKey(SlotKey<?> key) {
+            return new Property(name, type, getter, setter, (SlotKey<Object>) key);
+        }
+
+        Object get(Object source) {
+            try {
+                return getter.invokeExact(source);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        void set(Object target, Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        void put(RenderContext context, Object value) {
+            context.put(key, value);
+        }
+
+        /**
+         * Returns whether the form defines this property; booleans are always defined (checkbox).
+         */
+        boolean present(Map<String, String> formData) {
+            return parser != null && (type == boolean.class || type == Boolean.class || formData.containsKey(name));
+        }
+
+        /**
+         * Parses this property's field; {@code null} for blank non-string values.
+         */
+        Object parse(Map<String, String> formData) {
+            String text = formData.get(name);
+            if (type == boolean.class || type == Boolean.class) {
+                return text != null && (Boolean) parser.apply(text);
+            }
+            if (text == null || (type != String.class && text.isBlank())) {
+                return null;
+            }
+            try {
+                return parser.apply(type == String.class ? text : text.strip());
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid value for field '" + name + "': " + text, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package io.mindspice.simplypages.core;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Bounded, thread-safe cache of rendered component-valued slots shared across render contexts.
+ *
+ * <p>{@link RenderContext.RenderPolicy#COMPILE_ON_FIRST_HIT} on its own stores compiled HTML in the
+ * context that rendered it, so the work is lost when a per-request context is discarded. Attach a
+ * cache with {@link RenderContext#withSlotCache(SlotCache)} (typically on a shared parent context,
+ * which overlays inherit) and {@link Template} consults it for component values before rendering
+ * them.</p>
+ *
+ * <p>Keys: an entry is keyed by slot key, the component instance (identity, not equality), and the
+ * slot key's current version. Keys registered with {@link #keyByVersion(SlotKey[])} ignore the
+ * instance, so a component rebuilt per request (a nav tree, a {@code Markdown} body) is rendered
+ * once per version. {@link #invalidate(SlotKey)} bumps a key's version; {@link #invalidateAll()}
+ * drops everything.</p>
+ *
+ * <p>Admission: an instance-keyed entry is stored only when the same instance is rendered a second
+ * time, so per-request components never displace shared ones. Instances are held weakly; an entry
+ * whose component was collected can no longer hit and ages out. Version-keyed entries are stored on
+ * first render.</p>
+ *
+ * <p>Only output that read no values from the render context is stored; components containing
+ * slots still render per request. Concurrent misses on the same entry may each render once; the
+ * first result wins. Eviction is first-in first-out once {@code maxEntries} is exceeded.</p>
+ *
+ * <p>Mutability/thread-safety: thread-safe. Cached components must not be mutated in place; bump
+ * the key's version instead.</p>
+ */
+public final class SlotCache {
+
+    private final int maxEntries;
+    private final Map<CacheKey, String> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<CacheKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Map<SlotKey<?>, Long> versions = new ConcurrentHashMap<>();
+    private final Set<SlotKey<?>> versionKeyed = ConcurrentHashMap.newKeySet();
+    /** Instance keys rendered once and not yet admitted, bounded like {@link #entries}. */
+    private final Set<CacheKey> seen = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<CacheKey> seenOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a cache holding at most {@code maxEntries} rendered slots.
+     *
+     * @throws IllegalArgumentException when {@code maxEntries} is less than 1
+     */
+    public SlotCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Keys entries for {@code keys} by version alone instead of by component instance.
+     *
+     * <p>Callers must {@link #invalidate(SlotKey)} these keys whenever their content changes.</p>
+     *
+     * @return this cache
+     */
+    public SlotCache keyByVersion(SlotKey<?>... keys) {
+        for (SlotKey<?> key : keys) {
+            versionKeyed.add(key);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the current version of {@code key}; starts at 0.
+     */
+    public long version(SlotKey<?> key) {
+        return versions.getOrDefault(key, 0L);
+    }
+
+    /**
+     * Bumps the version of {@code key} and drops its entries.
+     *
+     * @return the new version
+     */
+    public long invalidate(SlotKey<?> key) {
+        long version = versions.merge(key, 1L, Long::sum);
+        entries.keySet().removeIf(cached -> cached.slot.equals(key));
+        insertionOrder.removeIf(cached -> cached.slot.equals(key));
+        return version;
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void invalidateAll() {
+        entries.clear();
+        insertionOrder.clear();
+        seen.clear();
+        seenOrder.clear();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns cached HTML for {@code component} in slot {@code key}, rendering and storing it on a
+     * miss when the render does not read {@code context}.
+     */
+    String render(SlotKey<?> key, Component component, RenderContext context) {
+        CacheKey cacheKey = new CacheKey(key, versionKeyed.contains(key) ? null : component, version(key));
+        String html = entries.get(cacheKey);
+        if (html != null) {
+            return html;
+        }
+        int reads = context.readCount();
+        html = component.render(context);
+        // Shared contexts keep no read counter, so their renders cannot prove slot independence.
+        boolean slotFree = !context.isShared() && context.readCount() == reads;
+        if (slotFree && admit(cacheKey) && entries.putIfAbsent(cacheKey, html) == null) {
+            insertionOrder.offer(cacheKey);
+            evict();
+        }
+        return html;
+    }
+
+    /**
+     * Returns whether {@code cacheKey} may be stored: version keys always, instance keys once seen
+     * before.
+     */
+    private boolean admit(CacheKey cacheKey) {
+        if (!cacheKey.byInstance() || !seen.add(cacheKey)) {
+            return true;
+        }
+        seenOrder.offer(cacheKey);
+        while (seen.size() > maxEntries) {
+            CacheKey oldest = seenOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            seen.remove(oldest);
+        }
+        return false;
+    }
+
+    private void evict() {
+        while (entries.size() > maxEntries) {
+            CacheKey oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest);
+        }
+    }
+
+    /**
+     * Cache key comparing the slot by equality and the component by identity.
+     *
+     * <p>The component is referenced weakly; once it is collected the key equals only itself.</p>
+     */
+    private static final class CacheKey {
+        private final SlotKey<?> slot;
+        /** Weak reference to the component, or {@code null} for version-keyed slots. */
+        private final WeakReference<Object> instance;
+        private final int hash;
+        private final long version;
+
+        CacheKey(SlotKey<?> slot, Object instance, long version) {
+            this.slot = slot;
+            this.instance = instance == null ? null : new WeakReference<>(instance);
+            this.version = version;
+            this.hash = (slot.hashCode() * 31 + System.identityHashCode(instance)) * 31 + Long.hashCode(version);
+        }
+
+        boolean byInstance() {
+            return instance != null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof CacheKey other
+                && sameInstance(other)
+                && version == other.version
+                && slot.equals(other.slot);
+        }
+
+        private boolean sameInstance(CacheKey other) {
+            if (instance == null || other.instance == null) {
+                return instance == other.instance;
+            }
+            Object target = instance.get();
+            return target != null && target == other.instance.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
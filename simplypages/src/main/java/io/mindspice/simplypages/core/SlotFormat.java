@@ -0,0 +1,85 @@
+package io.mindspice.simplypages.core;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Markup-free output format bound to a typed {@link SlotKey}.
+ *
+ * <p>Values of {@link #type()} are appended by {@link #appender()} straight into the render buffer
+ * without {@code toString()} allocation or a pass through {@link HtmlEscaper}. Formats are created
+ * through the typed {@code SlotKey.of*} factories; each guarantees its output contains no
+ * characters that need escaping.</p>
+ *
+ * <p>Mutability/thread-safety: immutable and thread-safe.</p>
+ *
+ * @param type value type handled by this format
+ * @param appender writes a value of {@code type} into the buffer
+ * @param <T> value type
+ */
+public record SlotFormat<T>(Class<T> type, BiConsumer<T, StringBuilder> appender) {
+
+    /** Shared formatters keyed by pattern and locale. */
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    static final SlotFormat<Integer> INT = new SlotFormat<>(Integer.class, (value, sb) -> sb.append(value.intValue()));
+    static final SlotFormat<Long> LONG = new SlotFormat<>(Long.class, (value, sb) -> sb.append(value.longValue()));
+    static final SlotFormat<Boolean> BOOLEAN = new SlotFormat<>(Boolean.class, (value, sb) -> sb.append(value.booleanValue()));
+
+    /**
+     * Appends {@code value} when it has this format's type.
+     *
+     * @return {@code false} when {@code value} is not an instance of {@link #type()}
+     */
+    boolean tryAppend(Object value, StringBuilder sb) {
+        if (!type.isInstance(value)) {
+            return false;
+        }
+        appender.accept(type.cast(value), sb);
+        return true;
+    }
+
+    /**
+     * Creates a format that writes each constant's {@code toString()}, escaped once per constant.
+     */
+    static <E extends Enum<E>> SlotFormat<E> forEnum(Class<E> enumType) {
+        E[] constants = enumType.getEnumConstants();
+        String[] rendered = new String[constants.length];
+        for (E constant : constants) {
+            rendered[constant.ordinal()] = HtmlEscaper.forHtml(constant.toString());
+        }
+        return new SlotFormat<>(enumType, (value, sb) -> sb.append(rendered[value.ordinal()]));
+    }
+
+    /**
+     * Creates a format that writes temporals through {@code formatter}.
+     *
+     * <p>Formatter output is appended in place; the appended range is escaped only in the rare case
+     * that a pattern literal or localized text contains markup characters.</p>
+     */
+    static SlotFormat<TemporalAccessor> forTemporal(DateTimeFormatter formatter) {
+        Objects.requireNonNull(formatter, "formatter");
+        return new SlotFormat<>(TemporalAccessor.class, (value, sb) -> {
+            int start = sb.length();
+            formatter.formatTo(value, sb);
+            if (!HtmlEscaper.isSafeText(sb, start, sb.length())) {
+                String raw = sb.substring(start);
+                sb.setLength(start);
+                HtmlEscaper.appendHtml(sb, raw);
+            }
+        });
+    }
+
+    /**
+     * Returns a shared formatter for {@code pattern} in {@code locale}.
+     */
+    static DateTimeFormatter formatter(String pattern, Locale locale) {
+        return FORMATTERS.computeIfAbsent(pattern + '\u0000' + locale.toLanguageTag(),
+                key -> DateTimeFormatter.ofPattern(pattern, locale));
+    }
+}
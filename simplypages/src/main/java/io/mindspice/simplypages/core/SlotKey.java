@@ -1,5 +1,8 @@
 package io.mindspice.simplypages.core;
 
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
 import java.util.function.Function;
 
 /**
@@ -11,12 +14,30 @@ import java.util.function.Function;
  * <p>Usage boundary: keys are consumed by slot-aware rendering in either direct component renders
  * or compiled {@link Template} renders.</p>
  *
+ * <p>Typed keys ({@link #ofInt(String)}, {@link #ofLong(String)}, {@link #ofBoolean(String)},
+ * {@link #ofEnum(String, Class)}, {@link #ofTemporal(String, DateTimeFormatter)}) carry a
+ * {@link SlotFormat} that writes values straight into the render buffer without escaping. The
+ * format does not take part in equality.</p>
+ *
  * <p>Mutability/thread-safety: immutable and thread-safe. Thread-safety of default evaluation
  * depends on the provided {@link #defaultProvider()} implementation.</p>
  *
+ * @param name stable slot name
+ * @param defaultProvider default function, or {@code null}
+ * @param format markup-free output format for typed keys, or {@code null}
  * @param <T> slot value type
  */
-public record SlotKey<T>(String name, Function<RenderContext, T> defaultProvider) {
+public record SlotKey<T>(String name, Function<RenderContext, T> defaultProvider, SlotFormat<T> format) {
+
+    /**
+     * Creates an untyped key.
+     *
+     * @param name stable slot name
+     * @param defaultProvider default function, or {@code null}
+     */
+    public SlotKey(String name, Function<RenderContext, T> defaultProvider) {
+        this(name, defaultProvider, null);
+    }
 
     /**
      * Creates a key with no default provider.
@@ -47,6 +68,66 @@ public record SlotKey<T>(String name, Function<RenderContext, T> defaultProvider
         return new SlotKey<>(name, defaultProvider);
     }
 
+    /**
+     * Creates an {@link Integer} key whose values are written as digits without escaping.
+     *
+     * @param name stable slot name
+     */
+    public static SlotKey<Integer> ofInt(String name) {
+        return new SlotKey<>(name, null, SlotFormat.INT);
+    }
+
+    /**
+     * Creates a {@link Long} key whose values are written as digits without escaping.
+     *
+     * @param name stable slot name
+     */
+    public static SlotKey<Long> ofLong(String name) {
+        return new SlotKey<>(name, null, SlotFormat.LONG);
+    }
+
+    /**
+     * Creates a {@link Boolean} key whose values are written as {@code true}/{@code false}.
+     *
+     * @param name stable slot name
+     */
+    public static SlotKey<Boolean> ofBoolean(String name) {
+        return new SlotKey<>(name, null, SlotFormat.BOOLEAN);
+    }
+
+    /**
+     * Creates an enum key whose constants render their {@code toString()}, escaped once up front.
+     *
+     * @param name stable slot name
+     * @param enumType enum class
+     */
+    public static <E extends Enum<E>> SlotKey<E> ofEnum(String name, Class<E> enumType) {
+        return new SlotKey<>(name, null, SlotFormat.forEnum(enumType));
+    }
+
+    /**
+     * Creates a temporal key formatted with {@code formatter} directly into the render buffer.
+     *
+     * @param name stable slot name
+     * @param formatter formatter applied to slot values
+     */
+    public static SlotKey<TemporalAccessor> ofTemporal(String name, DateTimeFormatter formatter) {
+        return new SlotKey<>(name, null, SlotFormat.forTemporal(formatter));
+    }
+
+    /**
+     * Creates a temporal key using a shared formatter for {@code pattern} in {@code locale}.
+     *
+     * <p>Formatters are cached per pattern and locale, so keys created per request reuse them.</p>
+     *
+     * @param name stable slot name
+     * @param pattern {@link DateTimeFormatter#ofPattern(String, Locale)} pattern
+     * @param locale formatting locale
+     */
+    public static SlotKey<TemporalAccessor> ofTemporal(String name, String pattern, Locale locale) {
+        return ofTemporal(name, SlotFormat.formatter(pattern, locale));
+    }
+
     /**
      * Resolves the default value for this key.
      *
@@ -1,26 +1,89 @@
 package io.mindspice.simplypages.core;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Mutable string-keyed slot value map used mainly as a legacy bridge API.
  *
- * <p>This map stores values as {@link TypedValue} to preserve runtime type metadata. For modern
+ * <p>Values keep their runtime type so they can be read back as {@link TypedValue}s. For modern
  * rendering, prefer {@link RenderContext} and {@link SlotKey} directly.</p>
  *
+ * <p>Storage: entries live in parallel columns in insertion order, with {@code int},
+ * {@code long}, {@code boolean}, and {@code double} values held unboxed, and an open-addressing
+ * name index. The primitive accessors ({@link #putInt(String, int)}, {@link #getInt(String, int)},
+ * ...) never box; {@link TypedValue} wrappers are created only when requested through
+ * {@link #get(String)} or {@link #getValues()}.</p>
+ *
+ * <p>Views: {@link #withDefaults(SlotKeyMap)} merges without copying, {@link #viewOf(RenderContext)}
+ * reads a render context in place, and {@link #asRenderContext(Map)} exposes this map as a render
+ * context. Writes to a view are kept in the view (copy-on-write) and never reach its sources.</p>
+ *
  * <p>Mutability/thread-safety: mutable and not thread-safe. Treat as request-scoped data. For reuse, stop mutating shared instances and render stable structures with per-request context data.</p>
  */
 public class SlotKeyMap {
-    /** Backing mutable map keyed by slot name. */
-    private final Map<String, TypedValue> values;
+
+    private static final byte OBJECT = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte DOUBLE = 4;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Shared columns of maps with no local entry yet; replaced by the first {@link #store}. */
+    private static final String[] NO_NAMES = {};
+    private static final byte[] NO_KINDS = {};
+    private static final long[] NO_BITS = {};
+    private static final Object[] NO_REFS = {};
+    private static final Class<?>[] NO_TYPES = {};
+    /** Single free bucket, so lookups on an empty map miss without allocating. */
+    private static final int[] NO_INDEX = new int[1];
+
+    /** Entry columns in insertion order; {@code types} is set for {@link #OBJECT} entries only. */
+    private String[] names;
+    private byte[] kinds;
+    private long[] bits;
+    private Object[] refs;
+    private Class<?>[] types;
+    private int size;
+    /** Open-addressing name index holding entry index + 1; 0 marks a free bucket. */
+    private int[] index;
+
+    /** Map consulted for names with no local entry (the overriding side of a merged view), or {@code null}. */
+    private final SlotKeyMap primary;
+    /** Map consulted after {@link #primary} (the defaults side of a merged view), or {@code null}. */
+    private final SlotKeyMap secondary;
+    /** Context read in place for names with no local entry, or {@code null}. */
+    private final RenderContext backing;
 
     /**
      * Creates an empty map.
      */
     private SlotKeyMap() {
-        this.values = new HashMap<>();
+        this(null, null, null);
+    }
+
+    /**
+     * Creates an empty map whose lookups fall through to {@code backing}, then {@code primary},
+     * then {@code secondary}.
+     */
+    private SlotKeyMap(SlotKeyMap primary, SlotKeyMap secondary, RenderContext backing) {
+        this.primary = primary;
+        this.secondary = secondary;
+        this.backing = backing;
+        // Views are often only read; columns are allocated by the first local write.
+        this.names = NO_NAMES;
+        this.kinds = NO_KINDS;
+        this.bits = NO_BITS;
+        this.refs = NO_REFS;
+        this.types = NO_TYPES;
+        this.index = NO_INDEX;
     }
 
     /**
@@ -34,7 +97,7 @@ public class SlotKeyMap {
      * Stores a string value for {@code slotName}.
      */
     public SlotKeyMap putString(String slotName, String value) {
-        values.put(slotName, TypedValue.string(value));
+        store(slotName, OBJECT, 0L, value, String.class);
         return this;
     }
 
@@ -42,7 +105,14 @@ public class SlotKeyMap {
      * Stores a boolean value for {@code slotName}.
      */
     public SlotKeyMap putBoolean(String slotName, Boolean value) {
-        values.put(slotName, TypedValue.bool(value));
+        return value == null ? putNull(slotName, Boolean.class) : putBoolean(slotName, value.booleanValue());
+    }
+
+    /**
+     * Stores an unboxed boolean value for {@code slotName}.
+     */
+    public SlotKeyMap putBoolean(String slotName, boolean value) {
+        store(slotName, BOOLEAN, value ? 1L : 0L, null, null);
         return this;
     }
 
@@ -50,21 +120,74 @@ public class SlotKeyMap {
      * Stores an integer value for {@code slotName}.
      */
     public SlotKeyMap putInt(String slotName, Integer value) {
-        values.put(slotName, TypedValue.integer(value));
+        return value == null ? putNull(slotName, Integer.class) : putInt(slotName, value.intValue());
+    }
+
+    /**
+     * Stores an unboxed integer value for {@code slotName}.
+     */
+    public SlotKeyMap putInt(String slotName, int value) {
+        store(slotName, INT, value, null, null);
+        return this;
+    }
+
+    /**
+     * Stores an unboxed long value for {@code slotName}.
+     */
+    public SlotKeyMap putLong(String slotName, long value) {
+        store(slotName, LONG, value, null, null);
+        return this;
+    }
+
+    /**
+     * Stores an unboxed double value for {@code slotName}.
+     */
+    public SlotKeyMap putDouble(String slotName, double value) {
+        store(slotName, DOUBLE, Double.doubleToRawLongBits(value), null, null);
         return this;
     }
 
     /**
      * Stores {@code value} with an explicit runtime type token.
      *
+     * <p>{@link Integer}, {@link Long}, {@link Boolean}, and {@link Double} values declared with
+     * exactly that type are stored unboxed.</p>
+     *
      * @param slotName slot name
      * @param type expected runtime type of value
      * @param value value to store; may be {@code null}
      * @return this map
+     * @throws IllegalArgumentException when {@code type} is null or {@code value} is not an instance of it
      */
-    @SuppressWarnings("unchecked")
     public SlotKeyMap put(String slotName, Class<?> type, Object value) {
-        values.put(slotName, TypedValue.of((Class<Object>) type, value));
+        if (type == null) {
+            throw new IllegalArgumentException("type cannot be null");
+        }
+        if (value == null) {
+            return putNull(slotName, type);
+        }
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException(
+                String.format("Type mismatch: expected %s, got %s", type.getName(), value.getClass().getName()));
+        }
+        if (type == Integer.class) {
+            return putInt(slotName, (int) (Integer) value);
+        }
+        if (type == Long.class) {
+            return putLong(slotName, (long) (Long) value);
+        }
+        if (type == Boolean.class) {
+            return putBoolean(slotName, (boolean) (Boolean) value);
+        }
+        if (type == Double.class) {
+            return putDouble(slotName, (double) (Double) value);
+        }
+        store(slotName, OBJECT, 0L, value, type);
+        return this;
+    }
+
+    private SlotKeyMap putNull(String slotName, Class<?> type) {
+        store(slotName, OBJECT, 0L, null, type);
         return this;
     }
 
@@ -72,14 +195,37 @@ public class SlotKeyMap {
      * Returns the typed value wrapper for {@code slotName}, when present.
      */
     public Optional<TypedValue> get(String slotName) {
-        return Optional.ofNullable(values.get(slotName));
+        SlotKeyMap holder = holder(slotName);
+        if (holder == null) {
+            return Optional.empty();
+        }
+        int i = holder.indexOf(slotName);
+        if (i < 0) {
+            SlotEntry.LiveEntry entry = holder.backingEntry(slotName);
+            return Optional.of(new TypedValue(entry.type(), entry.value()));
+        }
+        return Optional.of(new TypedValue(holder.typeAt(i), holder.valueAt(i)));
     }
 
     /**
      * Returns the value for {@code slotName} cast as {@code expectedType}.
+     *
+     * @throws IllegalArgumentException when {@code expectedType} is not assignable from the stored type
      */
     public <T> Optional<T> getValue(String slotName, Class<T> expectedType) {
-        return get(slotName).map(tv -> tv.getValueAs(expectedType));
+        SlotKeyMap holder = holder(slotName);
+        if (holder == null) {
+            return Optional.empty();
+        }
+        int i = holder.indexOf(slotName);
+        if (i < 0) {
+            return Optional.of(holder.backedValue(slotName, expectedType));
+        }
+        Class<?> type = holder.typeAt(i);
+        if (!expectedType.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Cannot cast " + type + " to " + expectedType);
+        }
+        return Optional.ofNullable(expectedType.cast(holder.valueAt(i)));
     }
 
     /**
@@ -87,17 +233,111 @@ public class SlotKeyMap {
      */
     @SuppressWarnings("unchecked")
     public <T> T getOrDefault(String slotName, T defaultValue) {
-        return (T) get(slotName).map(TypedValue::getValue).orElse(defaultValue);
+        SlotKeyMap holder = holder(slotName);
+        if (holder == null) {
+            return defaultValue;
+        }
+        int i = holder.indexOf(slotName);
+        T value = (T) (i < 0 ? holder.backingEntry(slotName).value() : holder.valueAt(i));
+        return value != null ? value : defaultValue;
     }
 
     /**
-     * Returns a merged copy where this map overrides {@code defaults} for duplicate keys.
+     * Returns the integer stored for {@code slotName} without boxing, or {@code defaultValue} when
+     * absent or {@code null}.
+     *
+     * @throws IllegalArgumentException when a non-integer value is stored
+     */
+    public int getInt(String slotName, int defaultValue) {
+        SlotKeyMap holder = holder(slotName);
+        if (holder == null) {
+            return defaultValue;
+        }
+        int i = holder.indexOf(slotName);
+        if (i < 0) {
+            return holder.backedValue(slotName, Integer.class);
+        }
+        i = holder.primitiveIndex(i, INT, Integer.class);
+        return i < 0 ? defaultValue : (int) holder.bits[i];
+    }
+
+    /**
+     * Returns the long stored for {@code slotName} without boxing, or {@code defaultValue} when
+     * absent or {@code null}.
+     *
+     * @throws IllegalArgumentException when a non-long value is stored
+     */
+    public long getLong(String slotName, long defaultValue) {
+        SlotKeyMap holder = holder(slotName);
+        if (holder == null) {
+            return defaultValue;
+        }
+        int i = holder.indexOf(slotName);
+        if (i < 0) {
+            return holder.backedValue(slotName, Long.class);
+        }
+        i = holder.primitiveIndex(i, LONG, Long.class);
+        return i < 0 ? defaultValue : holder.bits[i];
+    }
+
+    /**
+     * Returns the boolean stored for {@code slotName} without boxing, or {@code defaultValue} when
+     * absent or {@code null}.
+     *
+     * @throws IllegalArgumentException when a non-boolean value is stored
+     */
+    public boolean getBoolean(String slotName, boolean defaultValue) {
+        SlotKeyMap holder = holder(slotName);
+        if (holder == null) {
+            return defaultValue;
+        }
+        int i = holder.indexOf(slotName);
+        if (i < 0) {
+            return holder.backedValue(slotName, Boolean.class);
+        }
+        i = holder.primitiveIndex(i, BOOLEAN, Boolean.class);
+        return i < 0 ? defaultValue : holder.bits[i] != 0L;
+    }
+
+    /**
+     * Returns the double stored for {@code slotName} without boxing, or {@code defaultValue} when
+     * absent or {@code null}.
+     *
+     * @throws IllegalArgumentException when a non-double value is stored
+     */
+    public double getDouble(String slotName, double defaultValue) {
+        SlotKeyMap holder = holder(slotName);
+        if (holder == null) {
+            return defaultValue;
+        }
+        int i = holder.indexOf(slotName);
+        if (i < 0) {
+            return holder.backedValue(slotName, Double.class);
+        }
+        i = holder.primitiveIndex(i, DOUBLE, Double.class);
+        return i < 0 ? defaultValue : Double.longBitsToDouble(holder.bits[i]);
+    }
+
+    /**
+     * Returns a merged view where this map overrides {@code defaults} for duplicate keys.
+     *
+     * <p>No entries are copied: lookups check the view's own entries, then this map, then
+     * {@code defaults}, so later changes to either source stay visible. Writes to the view are kept
+     * in the view and never reach the sources.</p>
      */
     public SlotKeyMap withDefaults(SlotKeyMap defaults) {
-        SlotKeyMap merged = new SlotKeyMap();
-        defaults.values.forEach(merged.values::put);
-        this.values.forEach(merged.values::put);
-        return merged;
+        return new SlotKeyMap(this, defaults, null);
+    }
+
+    /**
+     * Returns a map reading {@code context}'s entries in place, named by {@link SlotKey#name()}.
+     *
+     * <p>Unlike {@link #fromRenderContext(RenderContext)}, nothing is copied: lookups go to the
+     * context, so later context changes stay visible. Writes to the view are kept in the view and
+     * never reach the context.</p>
+     */
+    public static SlotKeyMap viewOf(RenderContext context) {
+        return new SlotKeyMap(null, null, Objects.requireNonNull(context, "context cannot be null"));
     }
 
     /**
@@ -141,15 +381,44 @@ public class SlotKeyMap {
      */
     public RenderContext toRenderContext(Map<String, SlotKey<?>> slotMapping) {
         RenderContext context = RenderContext.empty();
-        values.forEach((name, typedValue) -> {
+        forEachVisible((name, type, value) -> {
             SlotKey<?> key = slotMapping.get(name);
             if (key != null) {
-                putContextValue(context, key, typedValue.value());
+                putContextValue(context, key, value);
             }
         });
         return context;
     }
 
+    /**
+     * Returns a render context reading this map in place through {@code slotMapping}.
+     *
+     * <p>Unlike {@link #toRenderContext(Map)}, nothing is copied up front: the context looks values
+     * up in this map until its first write, at which point it copies the mapped entries and
+     * continues on its own copy. Later changes to this map are visible until then.</p>
+     *
+     * @param slotMapping slot name to context key; names without a key are not visible
+     */
+    public RenderContext asRenderContext(Map<String, SlotKey<?>> slotMapping) {
+        return RenderContext.backedBy(new SlotKeyMapEntries(this, slotMapping));
+    }
+
+    /**
+     * Returns the live entry for {@code slotName}, or {@code null} when absent or {@code null}.
+     */
+    SlotEntry.LiveEntry liveEntry(String slotName) {
+        SlotKeyMap holder = holder(slotName);
+        if (holder == null) {
+            return null;
+        }
+        int i = holder.indexOf(slotName);
+        if (i < 0) {
+            return holder.backingEntry(slotName);
+        }
+        Object value = holder.valueAt(i);
+        return value == null ? null : new SlotEntry.LiveEntry(holder.typeAt(i), value);
+    }
+
     /**
      * Bridge helper to pass a value through generic {@link RenderContext#put(SlotKey, Object)}.
      */
@@ -163,28 +432,229 @@ public class SlotKeyMap {
      */
     public Map<String, Object> toPlainMap() {
         Map<String, Object> plain = new HashMap<>();
-        values.forEach((key, tv) -> plain.put(key, tv.value()));
+        forEachVisible((name, type, value) -> plain.put(name, value));
         return plain;
     }
 
     /**
-     * Returns an unmodifiable snapshot of internal typed values.
+     * Returns an unmodifiable snapshot of typed values.
      */
     public Map<String, TypedValue> getValues() {
-        return Map.copyOf(values);
+        Map<String, TypedValue> snapshot = new HashMap<>();
+        forEachVisible((name, type, value) -> snapshot.put(name, new TypedValue(type, value)));
+        return Map.copyOf(snapshot);
     }
 
     /**
      * Returns whether the map has no entries.
      */
     public boolean isEmpty() {
-        return values.isEmpty();
+        return size() == 0;
     }
 
     /**
-     * Returns the number of stored entries.
+     * Returns the number of stored entries, counting each name of a view once.
      */
     public int size() {
-        return values.size();
+        if (!isView()) {
+            return size;
+        }
+        int[] count = new int[1];
+        forEachVisible((name, type, value) -> count[0]++);
+        return count[0];
+    }
+
+    private boolean isView() {
+        return primary != null || secondary != null || backing != null;
+    }
+
+    /**
+     * Visits each visible entry once, in lookup precedence order.
+     */
+    void forEachVisible(EntryVisitor visitor) {
+        if (!isView()) {
+            for (int i = 0; i < size; i++) {
+                visitor.visit(names[i], typeAt(i), valueAt(i));
+            }
+            return;
+        }
+        collect(visitor, new HashSet<>());
+    }
+
+    private void collect(EntryVisitor visitor, Set<String> seen) {
+        for (int i = 0; i < size; i++) {
+            if (seen.add(names[i])) {
+                visitor.visit(names[i], typeAt(i), valueAt(i));
+            }
+        }
+        if (backing != null) {
+            backing.getEntries().forEach((slotKey, entry) -> {
+                SlotEntry.LiveEntry live = toLive(entry);
+                if (live != null && seen.add(slotKey.name())) {
+                    visitor.visit(slotKey.name(), live.type(), live.value());
+                }
+            });
+        }
+        if (primary != null) {
+            primary.collect(visitor, seen);
+        }
+        if (secondary != null) {
+            secondary.collect(visitor, seen);
+        }
+    }
+
+    /**
+     * Receives one entry's name, stored type, and boxed value.
+     */
+    @FunctionalInterface
+    interface EntryVisitor {
+        void visit(String name, Class<?> type, Object value);
+    }
+
+    /**
+     * Returns the map whose own entries define {@code slotName}, following merged views, or {@code null}.
+     */
+    private SlotKeyMap holder(String slotName) {
+        if (indexOf(slotName) >= 0 || (backing != null && backingEntry(slotName) != null)) {
+            return this;
+        }
+        SlotKeyMap found = primary == null ? null : primary.holder(slotName);
+        if (found == null && secondary != null) {
+            found = secondary.holder(slotName);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the backing context's entry for {@code slotName} as a live entry, or {@code null}.
+     */
+    private SlotEntry.LiveEntry backingEntry(String slotName) {
+        return backing == null ? null : backing.getEntry(SlotKey.of(slotName)).map(SlotKeyMap::toLive).orElse(null);
+    }
+
+    /**
+     * Returns the backing context's value for {@code slotName} as {@code expectedType}.
+     *
+     * @throws IllegalArgumentException when {@code expectedType} is not assignable from the stored type
+     */
+    private <T> T backedValue(String slotName, Class<T> expectedType) {
+        SlotEntry.LiveEntry entry = backingEntry(slotName);
+        if (!expectedType.isAssignableFrom(entry.type())) {
+            throw new IllegalArgumentException("Cannot cast " + entry.type() + " to " + expectedType);
+        }
+        return expectedType.cast(entry.value());
+    }
+
+    /**
+     * Maps a context entry as {@link #fromRenderContext(RenderContext)} does: compiled entries read as
+     * their HTML string, {@code null} values as absent.
+     */
+    private static SlotEntry.LiveEntry toLive(SlotEntry entry) {
+        return switch (entry) {
+            case SlotEntry.LiveEntry live -> live.value() == null ? null : live;
+            case SlotEntry.CompiledEntry compiled -> new SlotEntry.LiveEntry(String.class, compiled.html());
+        };
+    }
+
+    /**
+     * Returns {@code i} when it holds a primitive entry of {@code kind}, or -1 when the stored value
+     * is {@code null}.
+     *
+     * @throws IllegalArgumentException when the entry holds another type
+     */
+    private int primitiveIndex(int i, byte kind, Class<?> boxed) {
+        if (kinds[i] == kind) {
+            return i;
+        }
+        if (kinds[i] == OBJECT && refs[i] == null && types[i] == boxed) {
+            return -1;
+        }
+        throw new IllegalArgumentException("Cannot cast " + typeAt(i) + " to " + boxed);
+    }
+
+    private Class<?> typeAt(int i) {
+        return switch (kinds[i]) {
+            case INT -> Integer.class;
+            case LONG -> Long.class;
+            case BOOLEAN -> Boolean.class;
+            case DOUBLE -> Double.class;
+            default -> types[i];
+        };
+    }
+
+    private Object valueAt(int i) {
+        return switch (kinds[i]) {
+            case INT -> (int) bits[i];
+            case LONG -> bits[i];
+            case BOOLEAN -> bits[i] != 0L;
+            case DOUBLE -> Double.longBitsToDouble(bits[i]);
+            default -> refs[i];
+        };
+    }
+
+    /**
+     * Writes one entry, appending it when {@code slotName} has no local entry yet.
+     */
+    private void store(String slotName, byte kind, long value, Object ref, Class<?> type) {
+        int i = indexOf(slotName);
+        if (i < 0) {
+            if (size == names.length) {
+                grow();
+            }
+            i = size++;
+            names[i] = slotName;
+            insertIndex(slotName, i);
+        }
+        kinds[i] = kind;
+        bits[i] = value;
+        refs[i] = ref;
+        types[i] = type;
+    }
+
+    /**
+     * Returns the local column index of {@code slotName}, or -1.
+     */
+    private int indexOf(String slotName) {
+        int mask = index.length - 1;
+        for (int bucket = hash(slotName) & mask; ; bucket = (bucket + 1) & mask) {
+            int entry = index[bucket];
+            if (entry == 0) {
+                return -1;
+            }
+            if (names[entry - 1].equals(slotName)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private void insertIndex(String slotName, int entry) {
+        int mask = index.length - 1;
+        int bucket = hash(slotName) & mask;
+        while (index[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        index[bucket] = entry + 1;
+    }
+
+    /**
+     * Allocates the initial columns or doubles them, and rebuilds the index, keeping it at most
+     * half full.
+     */
+    private void grow() {
+        int capacity = Math.max(names.length * 2, INITIAL_CAPACITY);
+        names = Arrays.copyOf(names, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        bits = Arrays.copyOf(bits, capacity);
+        refs = Arrays.copyOf(refs, capacity);
+        types = Arrays.copyOf(types, capacity);
+        index = new int[capacity * 2];
+        for (int i = 0; i < size; i++) {
+            insertIndex(names[i], i);
+        }
+    }
+
+    private static int hash(String slotName) {
+        int h = slotName.hashCode();
+        return h ^ (h >>> 16);
     }
 }
@@ -0,0 +1,84 @@
+package io.mindspice.simplypages.core;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy-on-write {@link RenderContext} entry map reading a {@link SlotKeyMap} in place.
+ *
+ * <p>Reads resolve a context key to its slot name through the mapping and look the value up in the
+ * source map. The first write copies the mapped entries; from then on the context works on its own
+ * copy and the source map is no longer consulted.</p>
+ *
+ * <p>Mutability/thread-safety: mutable and not thread-safe, like the context that owns it.</p>
+ */
+final class SlotKeyMapEntries extends AbstractMap<SlotKey<?>, SlotEntry> {
+
+    private final SlotKeyMap source;
+    /** Context key to slot name; the inverse of the caller's mapping. */
+    private final Map<SlotKey<?>, String> names;
+    private Map<SlotKey<?>, SlotEntry> copy;
+
+    SlotKeyMapEntries(SlotKeyMap source, Map<String, SlotKey<?>> slotMapping) {
+        this.source = source;
+        this.names = new HashMap<>(slotMapping.size() * 2);
+        slotMapping.forEach((name, key) -> names.put(key, name));
+    }
+
+    @Override
+    public SlotEntry get(Object key) {
+        if (copy != null) {
+            return copy.get(key);
+        }
+        String name = names.get(key);
+        return name == null ? null : source.liveEntry(name);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public SlotEntry put(SlotKey<?> key, SlotEntry value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public SlotEntry remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        copy = new HashMap<>();
+    }
+
+    /**
+     * Returns the current entries; before the first write this is a snapshot of the mapped values.
+     */
+    @Override
+    public Set<Entry<SlotKey<?>, SlotEntry>> entrySet() {
+        return copy != null ? copy.entrySet() : snapshot().entrySet();
+    }
+
+    private Map<SlotKey<?>, SlotEntry> materialize() {
+        if (copy == null) {
+            copy = snapshot();
+        }
+        return copy;
+    }
+
+    private Map<SlotKey<?>, SlotEntry> snapshot() {
+        Map<SlotKey<?>, SlotEntry> entries = new HashMap<>();
+        names.forEach((key, name) -> {
+            SlotEntry entry = source.liveEntry(name);
+            if (entry != null) {
+                entries.put(key, entry);
+            }
+        });
+        return entries;
+    }
+}
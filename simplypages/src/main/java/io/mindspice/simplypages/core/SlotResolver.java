@@ -0,0 +1,212 @@
+package io.mindspice.simplypages.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Resolves asynchronous slot values in parallel before a render.
+ *
+ * <p>Pages built from independent data sources register one {@link Supplier} or
+ * {@link CompletionStage} per slot; {@link #resolveInto(RenderContext)} runs every supplier on its
+ * own virtual thread, waits for all of them, and stores the results in the context. Page latency is
+ * bounded by the slowest source instead of the sum of all of them.</p>
+ *
+ * <pre>{@code
+ * SlotResolver.create(Duration.ofMillis(250))
+ *     .supply(STATS, statsService::load)
+ *     .supply(POSTS, () -> posts.recent(10), Duration.ofMillis(400))
+ *     .await(NOTIFICATIONS, notificationsFuture)
+ *     .resolveInto(ctx);
+ * return PAGE.render(ctx);
+ * }</pre>
+ *
+ * <p>Fallback: a slot whose value is not ready within its timeout, or whose source fails or yields
+ * {@code null}, is left without an entry so the {@link SlotKey} default applies. Timeouts are
+ * measured from the start of {@code resolveInto}. A slot that times out is cancelled: its supplier's
+ * virtual thread is interrupted, and an awaited stage is cancelled, so pass a
+ * {@link CompletableFuture#copy()} when other code still needs the original. Every fallback is
+ * reported to the {@link Listener} set with {@link #withListener(Listener)} together with its cause,
+ * and its key is returned by {@code resolveInto}.</p>
+ *
+ * <p>Mutability/thread-safety: mutable and not thread-safe; build and resolve on one thread. The
+ * context is written only by the calling thread after values arrive, so the render itself stays
+ * single-threaded.</p>
+ */
+public final class SlotResolver {
+
+    private final Duration defaultTimeout;
+    private final List<Pending<?>> pending = new ArrayList<>();
+    private Listener listener = (key, cause) -> { };
+
+    private SlotResolver(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Creates a resolver whose slots time out after {@code defaultTimeout} unless given their own.
+     *
+     * @throws IllegalArgumentException when {@code defaultTimeout} is negative
+     */
+    public static SlotResolver create(Duration defaultTimeout) {
+        return new SlotResolver(checkTimeout(defaultTimeout));
+    }
+
+    /**
+     * Sets the listener notified of every slot that falls back (default: ignores them).
+     */
+    public SlotResolver withListener(Listener listener) {
+        this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+        return this;
+    }
+
+    /**
+     * Registers a supplier run on a virtual thread during {@link #resolveInto(RenderContext)}.
+     */
+    public <T> SlotResolver supply(SlotKey<T> key, Supplier<? extends T> supplier) {
+        return supply(key, supplier, defaultTimeout);
+    }
+
+    /**
+     * Registers a supplier with its own timeout.
+     */
+    public <T> SlotResolver supply(SlotKey<T> key, Supplier<? extends T> supplier, Duration timeout) {
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+        pending.add(new Pending<>(Objects.requireNonNull(key, "key cannot be null"), supplier, null, checkTimeout(timeout)));
+        return this;
+    }
+
+    /**
+     * Registers an already running stage.
+     */
+    public <T> SlotResolver await(SlotKey<T> key, CompletionStage<? extends T> stage) {
+        return await(key, stage, defaultTimeout);
+    }
+
+    /**
+     * Registers an already running stage with its own timeout.
+     */
+    public <T> SlotResolver await(SlotKey<T> key, CompletionStage<? extends T> stage, Duration timeout) {
+        Objects.requireNonNull(stage, "stage cannot be null");
+        pending.add(new Pending<>(Objects.requireNonNull(key, "key cannot be null"), null, stage, checkTimeout(timeout)));
+        return this;
+    }
+
+    /**
+     * Starts all suppliers, waits for every slot up to its timeout, and stores resolved values.
+     *
+     * <p>If the calling thread is interrupted, waiting stops, the interrupt flag is restored, and
+     * remaining slots are cancelled and fall back.</p>
+     *
+     * @param context destination context
+     * @return keys that fell back to their default, in registration order
+     */
+    public Set<SlotKey<?>> resolveInto(RenderContext context) {
+        Objects.requireNonNull(context, "context cannot be null");
+        long start = System.nanoTime();
+        for (Pending<?> slot : pending) {
+            slot.start();
+        }
+
+        Set<SlotKey<?>> fallbacks = new LinkedHashSet<>();
+        for (Pending<?> slot : pending) {
+            if (!slot.resolveInto(context, start, listener)) {
+                fallbacks.add(slot.key);
+            }
+        }
+        return fallbacks;
+    }
+
+    private static Duration checkTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout cannot be negative");
+        }
+        return timeout;
+    }
+
+    /**
+     * Receives slots that fell back to their {@link SlotKey} default.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called on the resolving thread, in registration order, before {@code resolveInto} returns.
+         *
+         * @param cause the supplier's or stage's failure, a {@link TimeoutException} when the slot
+         *              timed out, an {@link InterruptedException} when waiting was interrupted, or
+         *              {@code null} when the source yielded {@code null}
+         */
+        void onFallback(SlotKey<?> key, Throwable cause);
+    }
+
+    /**
+     * One registered slot and its in-flight value.
+     */
+    private static final class Pending<T> {
+        private final SlotKey<T> key;
+        private final Supplier<? extends T> supplier;
+        private final long timeoutNanos;
+        private Future<? extends T> future;
+
+        Pending(SlotKey<T> key, Supplier<? extends T> supplier, CompletionStage<? extends T> stage, Duration timeout) {
+            this.key = key;
+            this.supplier = supplier;
+            this.future = stage == null ? null : stage.toCompletableFuture();
+            this.timeoutNanos = timeout.toNanos();
+        }
+
+        void start() {
+            if (supplier != null) {
+                // A FutureTask, unlike a CompletableFuture, interrupts its runner when cancelled.
+                FutureTask<T> task = new FutureTask<>(supplier::get);
+                Thread.ofVirtual().name("slot-resolver").start(task);
+                future = task;
+            }
+        }
+
+        boolean resolveInto(RenderContext context, long start, Listener listener) {
+            T value;
+            try {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException("slot resolution interrupted");
+                }
+                long remaining = timeoutNanos - (System.nanoTime() - start);
+                value = future.get(Math.max(remaining, 0L), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                listener.onFallback(key, e);
+                return false;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                listener.onFallback(key, e);
+                return false;
+            } catch (ExecutionException e) {
+                listener.onFallback(key, e.getCause());
+                return false;
+            } catch (RuntimeException e) {
+                listener.onFallback(key, e);
+                return false;
+            }
+            if (value == null) {
+                listener.onFallback(key, null);
+                return false;
+            }
+            context.put(key, value);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package io.mindspice.simplypages.core;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Renders components from a {@link Flow.Publisher} incrementally into a {@link StreamSink}.
+ *
+ * <p>Long reports do not need every row built before rendering starts: rows are requested one at
+ * a time, rendered into a single reused buffer, and written out; the next row is requested only
+ * once the sink has drained the previous chunk. Memory stays constant regardless of report length,
+ * and the container's opening markup is written as soon as the subscription starts.</p>
+ *
+ * <pre>{@code
+ * Page shell = Page.builder().addComponents(reportHeader).build();
+ * StreamRenderer.into(shell)
+ *     .withContext(ctx)
+ *     .render(reportRows(query), StreamSink.of(response.getWriter()))
+ *     .join();
+ * }</pre>
+ *
+ * <p>Container: its full render (attributes and existing children) is written first, streamed items
+ * are appended after its last child, and its closing tag is written when the publisher completes.
+ * When the publisher signals an error, or a sink write fails, the subscription is cancelled, the
+ * closing tag is not written, and the returned future completes exceptionally.</p>
+ *
+ * <p>Mutability/thread-safety: configure once, then treat as immutable. Each {@code render} call
+ * uses its own subscriber, buffer, and {@link RenderContext#overlay()} of the configured context,
+ * so slot writes made while rendering stay local to that call; concurrent calls are safe when the
+ * container is not mutated and nothing writes to the configured context while they run.</p>
+ */
+public final class StreamRenderer {
+
+    private final HtmlTag container;
+    private RenderContext context = RenderContext.empty();
+    private int chunkSize;
+
+    private StreamRenderer(HtmlTag container) {
+        this.container = container;
+    }
+
+    /**
+     * Creates a renderer that writes streamed items without a surrounding element.
+     */
+    public static StreamRenderer create() {
+        return new StreamRenderer(null);
+    }
+
+    /**
+     * Creates a renderer that writes streamed items inside {@code container}.
+     *
+     * @param container non-self-closing element, for example a built {@code Page}
+     */
+    public static StreamRenderer into(HtmlTag container) {
+        return new StreamRenderer(Objects.requireNonNull(container, "container cannot be null"));
+    }
+
+    /**
+     * Sets the context used to render the container and every streamed item.
+     */
+    public StreamRenderer withContext(RenderContext context) {
+        this.context = Objects.requireNonNull(context, "context cannot be null");
+        return this;
+    }
+
+    /**
+     * Coalesces rendered items until the buffer holds at least {@code chars} characters before
+     * writing (default 0: write after every item).
+     *
+     * @throws IllegalArgumentException when {@code chars} is negative
+     */
+    public StreamRenderer withChunkSize(int chars) {
+        if (chars < 0) {
+            throw new IllegalArgumentException("chunk size cannot be negative");
+        }
+        this.chunkSize = chars;
+        return this;
+    }
+
+    /**
+     * Subscribes to {@code items} and streams their rendered output to {@code sink}.
+     *
+     * @return future completing after the closing markup is written, or exceptionally on failure
+     * @throws IllegalArgumentException when the container is self-closing, or its render does not
+     *                                  end with its closing tag
+     */
+    public CompletableFuture<Void> render(Flow.Publisher<? extends Component> items, StreamSink sink) {
+        Objects.requireNonNull(items, "items cannot be null");
+        Objects.requireNonNull(sink, "sink cannot be null");
+        RenderContext scoped = context.overlay();
+        String open = "";
+        String close = "";
+        if (container != null) {
+            if (container.selfClosing) {
+                throw new IllegalArgumentException("Streaming container cannot be self-closing: " + container.tagName);
+            }
+            String html = container.render(scoped);
+            close = "</" + container.tagName + ">";
+            if (!html.endsWith(close)) {
+                throw new IllegalArgumentException("Streaming container must render its closing tag last: " + container.tagName);
+            }
+            open = html.substring(0, html.length() - close.length());
+        }
+        RenderSubscriber subscriber = new RenderSubscriber(open, close, scoped, sink, chunkSize);
+        items.subscribe(subscriber);
+        return subscriber.done;
+    }
+
+    /**
+     * Requests one item at a time and writes when the buffer reaches the chunk size.
+     *
+     * <p>The buffer is owned by the sink while a write is outstanding. Publishers may signal
+     * completion or failure without pending demand, so those signals are deferred until the write
+     * drains instead of touching the buffer.</p>
+     */
+    private static final class RenderSubscriber implements Flow.Subscriber<Component> {
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final StringBuilder buffer = new StringBuilder();
+        private final String close;
+        private final RenderContext context;
+        private final StreamSink sink;
+        private final int chunkSize;
+        private Flow.Subscription subscription;
+        /** True while {@link #buffer} is handed to the sink; guarded by {@code this}. */
+        private boolean writing;
+        /** Completion or failure signalled during a write, run once it drains; guarded by {@code this}. */
+        private Runnable deferred;
+
+        RenderSubscriber(String open, String close, RenderContext context, StreamSink sink, int chunkSize) {
+            this.buffer.append(open);
+            this.close = close;
+            this.context = context;
+            this.sink = sink;
+            this.chunkSize = Math.max(chunkSize, 1);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+            flush(() -> subscription.request(1));
+        }
+
+        @Override
+        public void onNext(Component item) {
+            if (done.isDone()) {
+                return;
+            }
+            try {
+                buffer.append(item.render(context));
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            if (buffer.length() >= chunkSize) {
+                flush(() -> subscription.request(1));
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!deferWhileWriting(() -> done.completeExceptionally(throwable))) {
+                done.completeExceptionally(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!deferWhileWriting(this::complete)) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            buffer.append(close);
+            flush(() -> done.complete(null));
+        }
+
+        /**
+         * Parks {@code signal} until the outstanding write drains.
+         *
+         * @return {@code false} when no write is outstanding and the caller should run it now
+         */
+        private synchronized boolean deferWhileWriting(Runnable signal) {
+            if (!writing) {
+                return false;
+            }
+            deferred = signal;
+            return true;
+        }
+
+        /**
+         * Writes the buffer, then clears it and runs {@code next} once the sink has drained it.
+         */
+        private void flush(Runnable next) {
+            if (buffer.isEmpty()) {
+                next.run();
+                return;
+            }
+            synchronized (this) {
+                writing = true;
+            }
+            CompletionStage<Void> written;
+            try {
+                written = sink.write(buffer);
+            } catch (RuntimeException e) {
+                drained();
+                fail(e);
+                return;
+            }
+            written.whenComplete((ignored, error) -> {
+                Runnable signal = drained();
+                if (error != null) {
+                    fail(error);
+                } else if (signal != null) {
+                    // The publisher already terminated; its signal replaces the next request.
+                    signal.run();
+                } else {
+                    next.run();
+                }
+            });
+        }
+
+        /**
+         * Releases the buffer after a write and returns the signal deferred meanwhile, if any.
+         */
+        private synchronized Runnable drained() {
+            buffer.setLength(0);
+            writing = false;
+            Runnable signal = deferred;
+            deferred = null;
+            return signal;
+        }
+
+        private void fail(Throwable error) {
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            done.completeExceptionally(error);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.mindspice.simplypages.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Output channel for {@link StreamRenderer}: accepts one chunk at a time and signals when it has
+ * drained.
+ *
+ * <p>The renderer requests the next item from its publisher only after the stage returned by
+ * {@link #write(CharSequence)} completes, so a slow channel slows the producer instead of letting
+ * rendered output queue up in memory. {@code chunk} is the renderer's reused buffer: it is valid
+ * until the returned stage completes and must not be retained after that.</p>
+ */
+@FunctionalInterface
+public interface StreamSink {
+
+    /**
+     * Writes {@code chunk}; the returned stage completes when the sink can take the next chunk, or
+     * completes exceptionally to abort the render.
+     */
+    CompletionStage<Void> write(CharSequence chunk);
+
+    /**
+     * Returns a sink that writes and flushes each chunk to {@code writer} on the calling thread.
+     *
+     * <p>Blocking writes are the backpressure: the next item is requested only after the flush
+     * returns. The writer is not closed.</p>
+     */
+    static StreamSink of(Writer writer) {
+        Objects.requireNonNull(writer, "writer cannot be null");
+        return chunk -> {
+            try {
+                writer.append(chunk);
+                writer.flush();
+                return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        };
+    }
+}
@@ -1,19 +1,25 @@
 package io.mindspice.simplypages.core;
 
-import org.owasp.encoder.Encode;
-
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
 /**
  * Compiled render plan built from a component tree.
  *
  * <p>Compilation flattens static HTML into string segments and keeps dynamic portions as slot or
- * component segments. Modules are built during compilation to honor build-once lifecycle rules.</p>
+ * component segments. Modules are built during compilation to honor build-once lifecycle rules.
+ * Frozen slot-free subtrees (see {@link HtmlTag#freeze()}) compile to their memoized HTML.</p>
  *
- * <p>Security boundary: text slots and non-component values are escaped; compiled slot entries are
- * treated as trusted HTML and inserted as-is.</p>
+ * <p>Security boundary: text slots and non-component values are escaped; compiled slot entries and
+ * {@link SafeHtml} values are treated as trusted HTML and inserted as-is.</p>
  *
  * <p>Mutability/thread-safety: a template is effectively immutable after construction and can be
  * reused across requests. Thread-safety depends on render contexts passed at call sites.</p>
@@ -51,8 +57,8 @@ public class Template {
                 switch (entry) {
                     case SlotEntry.CompiledEntry compiled -> sb.append(compiled.html());
                     case SlotEntry.LiveEntry live -> {
-                        String rendered = renderValue(live.value(), context);
-                        if (context.getPolicy() == RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT) {
+                        String rendered = renderLive(key, live.value(), context);
+                        if (context.getPolicy() == RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT && !context.isShared()) {
                             context.putCompiled(key, rendered);
                         }
                         sb.append(rendered);
@@ -65,6 +71,46 @@ public class Template {
         }
     }
 
+    /**
+     * Dynamic segment for typed keys; values of the key's {@link SlotFormat} type are written
+     * directly, anything else falls back to {@link SlotSegment} semantics.
+     */
+    private static class TypedSlotSegment implements Segment {
+        private final SlotKey<?> key;
+        private final SlotFormat<?> format;
+        TypedSlotSegment(SlotKey<?> key) {
+            this.key = key;
+            this.format = key.format();
+        }
+
+        @Override
+        public void render(RenderContext context, StringBuilder sb) {
+            Optional<SlotEntry> entryOpt = context.getEntry(key);
+            if (entryOpt.isPresent()) {
+                SlotEntry entry = entryOpt.get();
+                switch (entry) {
+                    case SlotEntry.CompiledEntry compiled -> sb.append(compiled.html());
+                    case SlotEntry.LiveEntry live -> {
+                        int start = sb.length();
+                        append(live.value(), context, sb);
+                        if (context.getPolicy() == RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT && !context.isShared()) {
+                            context.putCompiled(key, sb.substring(start));
+                        }
+                    }
+                }
+                return;
+            }
+
+            context.get(key).ifPresent(val -> append(val, context, sb));
+        }
+
+        private void append(Object val, RenderContext context, StringBuilder sb) {
+            if (!format.tryAppend(val, sb)) {
+                sb.append(renderValue(val, context));
+            }
+        }
+    }
+
     /**
      * Dynamic segment for escaped text slots used by {@link HtmlTag#innerTextSlot}.
      */
@@ -79,8 +125,8 @@ public class Template {
                 switch (entry) {
                     case SlotEntry.CompiledEntry compiled -> sb.append(compiled.html());
                     case SlotEntry.LiveEntry live -> {
-                        String rendered = live.value() == null ? "" : Encode.forHtml(live.value().toString());
-                        if (context.getPolicy() == RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT) {
+                        String rendered = live.value() == null ? "" : HtmlEscaper.forHtml(live.value().toString());
+                        if (context.getPolicy() == RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT && !context.isShared()) {
                             context.putCompiled(key, rendered);
                         }
                         sb.append(rendered);
@@ -89,7 +135,7 @@ public class Template {
                 return;
             }
 
-            context.get(key).ifPresent(val -> sb.append(Encode.forHtml(val)));
+            context.get(key).ifPresent(val -> HtmlEscaper.appendHtml(sb, val));
         }
     }
 
@@ -104,20 +150,38 @@ public class Template {
 
     /** Compiled segments in render order. */
     private final List<Segment> segments = new ArrayList<>();
+    /** Length of the most recent output; pre-sizes the next render buffer (benign race). */
+    private int lastSize;
 
     /**
-     * Compiles and optimizes a template from {@code root}.
+     * Compiles and optimizes a template from {@code root}, minifying static markup when requested.
      */
-    private Template(Component root) {
+    private Template(Component root, boolean minify) {
         compile(root);
         optimize();
+        if (minify) {
+            minify();
+        }
     }
 
     /**
      * Compiles a reusable template from a component root.
      */
     public static Template of(Component root) {
-        return new Template(root);
+        return new Template(root, false);
+    }
+
+    /**
+     * Compiles a reusable template from a component root and minifies its static markup.
+     *
+     * <p>Minification runs once, here: insignificant whitespace is collapsed, safe attribute quotes
+     * are dropped, and inline CSS and JavaScript blocks are compacted, while {@code <pre>},
+     * {@code <textarea>}, and {@code <code>} content is left untouched. Slot values and dynamic
+     * components are rendered as-is; freeze subtrees holding raw HTML or markdown so they compile
+     * to static markup and are minified too.</p>
+     */
+    public static Template minified(Component root) {
+        return new Template(root, true);
     }
 
     /**
@@ -125,11 +189,14 @@ public class Template {
      */
     private void compile(Component component) {
         switch (component) {
+            case HtmlTag tag when tag.frozenHtml() != null -> segments.add(new StringSegment(tag.frozenHtml()));
             case Module module -> {
                 module.build();
                 compileModuleAsTag(module);
             }
+            case Slot<?> slot when slot.getKey().format() != null -> segments.add(new TypedSlotSegment(slot.getKey()));
             case Slot<?> slot -> segments.add(new SlotSegment(slot.getKey()));
+            case SafeHtml safe -> segments.add(new StringSegment(safe.html()));
             case HtmlTag tag -> compileTag(tag);
             default -> segments.add(new ComponentSegment(component));
         }
@@ -162,7 +229,7 @@ public class Template {
         if (tag.innerTextSlot != null) {
             segments.add(new TextSlotSegment(tag.innerTextSlot));
         } else if (!tag.innerText.isEmpty()) {
-            String text = tag.trustedHtml ? tag.innerText : Encode.forHtml(tag.innerText);
+            String text = tag.trustedHtml ? tag.innerText : HtmlEscaper.forHtml(tag.innerText);
             segments.add(new StringSegment(text));
         }
 
@@ -198,27 +265,237 @@ public class Template {
         segments.addAll(optimized);
     }
 
+    /**
+     * Rewrites each {@link StringSegment} through one {@link HtmlMinifier}, in render order.
+     */
+    private void minify() {
+        HtmlMinifier minifier = new HtmlMinifier();
+        int last = segments.size() - 1;
+        for (int i = 0; i <= last; i++) {
+            if (segments.get(i) instanceof StringSegment seg) {
+                segments.set(i, new StringSegment(minifier.minify(seg.content, i > 0, i < last)));
+            }
+        }
+    }
+
+    /**
+     * Passes each component rendered live by this template (not compiled into static segments) to
+     * {@code action}, in render order.
+     */
+    void forEachDynamicComponent(Consumer<Component> action) {
+        for (Segment segment : segments) {
+            if (segment instanceof ComponentSegment dynamic) {
+                action.accept(dynamic.component);
+            }
+        }
+    }
+
+    /**
+     * Passes the key of each slot segment in this template to {@code action}, in render order.
+     *
+     * <p>Covers compiled slots and text slots; slots inside dynamic components are not included.</p>
+     */
+    void forEachSlotKey(Consumer<SlotKey<?>> action) {
+        for (Segment segment : segments) {
+            switch (segment) {
+                case SlotSegment slot -> action.accept(slot.key);
+                case TypedSlotSegment slot -> action.accept(slot.key);
+                case TextSlotSegment slot -> action.accept(slot.key);
+                default -> { }
+            }
+        }
+    }
+
     /**
      * Renders this template with the provided context.
      */
     public String render(RenderContext context) {
-         StringBuilder sb = new StringBuilder();
-         for (Segment segment : segments) {
-             segment.render(context, sb);
-         }
+         StringBuilder sb = new StringBuilder(sizeHint());
+         renderTo(context, sb);
          return sb.toString();
     }
 
+    /**
+     * Appends this template's output for {@code context} to {@code sb}.
+     *
+     * <p>Lets callers render into a reused buffer (see {@link RenderScope}); the output length is
+     * remembered as the size hint for later renders.</p>
+     */
+    public void renderTo(RenderContext context, StringBuilder sb) {
+        int start = sb.length();
+        RenderBudget.Tracker budget = context.budget();
+        if (budget == null) {
+            for (Segment segment : segments) {
+                segment.render(context, sb);
+            }
+        } else {
+            renderBudgeted(context, sb, budget);
+        }
+        lastSize = sb.length() - start;
+    }
+
+    /**
+     * Renders segments under {@code budget}. Each component segment is an abort boundary: it is
+     * replaced by the budget's fallback when the budget is already exhausted or runs out inside it.
+     * Other segments are charged by length and never abort.
+     */
+    private void renderBudgeted(RenderContext context, StringBuilder sb, RenderBudget.Tracker budget) {
+        for (Segment segment : segments) {
+            int before = sb.length();
+            if (segment instanceof ComponentSegment) {
+                try {
+                    budget.checkDeadline();
+                    segment.render(context, sb);
+                } catch (RenderBudget.ExceededException e) {
+                    context.markUncacheable();
+                    sb.setLength(before);
+                    sb.append(budget.fallbackHtml());
+                }
+            } else {
+                segment.render(context, sb);
+                budget.record(sb.length() - before);
+            }
+        }
+    }
+
+    /**
+     * Renders this template once per context in iteration order, delivering each output to
+     * {@code sink}.
+     *
+     * <p>One pooled buffer, pre-sized from the last output, is reused for every context, so no
+     * per-result {@code String} is created unless the sink asks for one.</p>
+     *
+     * @throws java.io.UncheckedIOException when the sink throws {@link IOException}
+     */
+    public void renderAll(Iterable<RenderContext> contexts, RenderSink sink) {
+        renderEach(contexts.spliterator(), sink);
+    }
+
+    /**
+     * Renders this template for every context in {@code contexts} on the common fork/join pool.
+     *
+     * @see #renderAllParallel(Spliterator, RenderSink)
+     */
+    public void renderAllParallel(Collection<RenderContext> contexts, RenderSink sink) {
+        renderAllParallel(contexts.spliterator(), sink);
+    }
+
+    /**
+     * Renders this template for every context on the common fork/join pool, splitting
+     * {@code contexts} across workers.
+     *
+     * <p>Each leaf task renders its share into one pooled buffer, so memory stays bounded by the
+     * pool's parallelism rather than the number of contexts. Delivery order is unspecified and
+     * {@code sink} is called concurrently. Contexts must not be shared between elements.</p>
+     *
+     * @throws java.io.UncheckedIOException when the sink throws {@link IOException}
+     */
+    public void renderAllParallel(Spliterator<RenderContext> contexts, RenderSink sink) {
+        long leafSize = Math.max(contexts.estimateSize() / (ForkJoinPool.getCommonPoolParallelism() * 4L), 1L);
+        ForkJoinPool.commonPool().invoke(new RenderAllTask(this, contexts, sink, leafSize));
+    }
+
+    /**
+     * Renders each remaining context into one reused buffer.
+     */
+    private void renderEach(Spliterator<RenderContext> contexts, RenderSink sink) {
+        StringBuilder sb = RenderPool.shared().acquireBuffer(sizeHint());
+        try {
+            contexts.forEachRemaining(context -> {
+                sb.setLength(0);
+                renderTo(context, sb);
+                try {
+                    sink.accept(context, sb);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } finally {
+            RenderPool.shared().releaseBuffer(sb);
+        }
+    }
+
+    /**
+     * Splits a bulk render until each part is at most {@code leafSize}, then renders parts in place.
+     */
+    private static final class RenderAllTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Template template;
+        private final transient Spliterator<RenderContext> contexts;
+        private final transient RenderSink sink;
+        private final long leafSize;
+
+        RenderAllTask(Template template, Spliterator<RenderContext> contexts, RenderSink sink, long leafSize) {
+            this.template = template;
+            this.contexts = contexts;
+            this.sink = sink;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            List<RenderAllTask> forks = new ArrayList<>();
+            Spliterator<RenderContext> prefix;
+            while (contexts.estimateSize() > leafSize && (prefix = contexts.trySplit()) != null) {
+                RenderAllTask fork = new RenderAllTask(template, prefix, sink, leafSize);
+                fork.fork();
+                forks.add(fork);
+            }
+            template.renderEach(contexts, sink);
+            for (RenderAllTask fork : forks) {
+                fork.join();
+            }
+        }
+    }
+
+    /**
+     * Returns the expected output length: the last output size plus some headroom, so slightly
+     * larger renders do not trigger a buffer resize.
+     */
+    int sizeHint() {
+        int last = lastSize;
+        return last == 0 ? 256 : last + (last >> 3);
+    }
+
+    /**
+     * Renders this template and returns the output as a {@link SafeHtml} fragment.
+     *
+     * <p>Use for composing pre-rendered fragments into slots of other templates without escaping.</p>
+     */
+    public SafeHtml renderSafe(RenderContext context) {
+        return SafeHtml.trust(render(context));
+    }
+
+    /**
+     * Renders a live slot value, going through the context's {@link SlotCache} for component
+     * values when compile-on-first-hit is active.
+     */
+    private static String renderLive(SlotKey<?> key, Object val, RenderContext context) {
+        SlotCache cache = context.getSlotCache();
+        if (cache != null
+                && context.getPolicy() == RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT
+                && !context.isShared()
+                && val instanceof Component component
+                && !(val instanceof SafeHtml)) {
+            return cache.render(key, component, context);
+        }
+        return renderValue(val, context);
+    }
+
     /**
      * Renders arbitrary slot values with component-aware dispatch.
      */
-    private static String renderValue(Object val, RenderContext context) {
+    static String renderValue(Object val, RenderContext context) {
         if (val == null) {
             return "";
         }
+        if (val instanceof SafeHtml safe) {
+            return safe.html();
+        }
         if (val instanceof Component component) {
             return component.render(context);
         }
-        return Encode.forHtml(val.toString());
+        return HtmlEscaper.forHtml(val.toString());
     }
 }
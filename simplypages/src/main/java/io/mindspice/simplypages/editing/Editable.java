@@ -31,7 +31,8 @@ public interface Editable<T extends Module> {
      * Applies form data to this module instance.
      *
      * <p>Side effect: mutates this module. Implementations should rebuild cached/built structure
-     * when required by module lifecycle semantics.</p>
+     * when required by module lifecycle semantics; {@code Module.rebuildContent()} also marks the
+     * module's cached render output dirty.</p>
      *
      * @param formData form field name to value map
      * @return this module instance
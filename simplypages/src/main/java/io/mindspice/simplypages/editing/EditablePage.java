@@ -3,6 +3,7 @@ package io.mindspice.simplypages.editing;
 
 import io.mindspice.simplypages.components.Div;
 import io.mindspice.simplypages.components.forms.Button;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 import io.mindspice.simplypages.core.RenderContext;
@@ -24,8 +25,8 @@ import java.util.List;
 public class EditablePage extends HtmlTag {
 
     private final String pageId;
-    private final List<EditableRow> rows = new ArrayList<>();
-    private final Div pageContainer;
+    private List<EditableRow> rows = new ArrayList<>();
+    private Div pageContainer;
 
     /** Internal constructor; use {@link #create(String)}. */
     private EditablePage(String pageId) {
@@ -43,15 +44,26 @@ public class EditablePage extends HtmlTag {
 
     /** Appends an editable row to this page. */
     public EditablePage addEditableRow(EditableRow row) {
+        markChanged();
         rows.add(row);
         return this;
     }
 
+    /** Detaches rows and the page container from the prototype. */
+    @Override
+    protected void cloneState(CloneContext context) {
+        rows = context.copyAll(rows);
+        pageContainer = context.copy(pageContainer);
+    }
+
     /**
      * Rebuilds and renders page-builder markup for current rows.
      */
     @Override
     public String render(RenderContext context) {
+        if (isFrozen()) {
+            return super.render(context);
+        }
         children.clear();
 
         Div content = new Div().withClass("editable-page");
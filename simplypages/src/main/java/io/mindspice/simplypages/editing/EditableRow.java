@@ -3,6 +3,7 @@ package io.mindspice.simplypages.editing;
 
 import io.mindspice.simplypages.components.Div;
 import io.mindspice.simplypages.components.forms.Button;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 import io.mindspice.simplypages.core.Module;
@@ -26,11 +27,11 @@ import java.util.List;
  */
 public class EditableRow extends HtmlTag {
 
-    private final Row wrappedRow;
+    private Row wrappedRow;
     private final String rowId;
     private final String pageId;
     private int maxModulesPerRow = 3;
-    private final List<ModuleInfo> modules = new ArrayList<>();
+    private List<ModuleInfo> modules = new ArrayList<>();
     private EditMode editMode = EditMode.OWNER_EDIT;  // Default for page builder
 
     // Permission flags (Phase 6.5)
@@ -68,6 +69,7 @@ public class EditableRow extends HtmlTag {
      * @throws IllegalArgumentException when {@code max < 1}
      */
     public EditableRow withMaxModules(int max) {
+        markChanged();
         if (max < 1) {
             throw new IllegalArgumentException("Max modules must be at least 1");
         }
@@ -77,12 +79,14 @@ public class EditableRow extends HtmlTag {
 
     /** Sets edit mode applied to generated {@link EditableModule} wrappers. */
     public EditableRow withEditMode(EditMode mode) {
+        markChanged();
         this.editMode = mode;
         return this;
     }
 
     /** Sets whether the add-module control is rendered. */
     public EditableRow withCanAddModule(boolean canAddModule) {
+        markChanged();
         this.canAddModule = canAddModule;
         return this;
     }
@@ -93,6 +97,7 @@ public class EditableRow extends HtmlTag {
      * @throws IllegalStateException when module limit is reached
      */
     public EditableRow addEditableModule(Module module, String moduleId) {
+        markChanged();
         if (modules.size() >= maxModulesPerRow) {
             throw new IllegalStateException("Maximum modules per row (" + maxModulesPerRow + ") reached");
         }
@@ -106,9 +111,23 @@ public class EditableRow extends HtmlTag {
         return this;
     }
 
+    /** Detaches the wrapped row and registered modules from the prototype. */
+    @Override
+    protected void cloneState(CloneContext context) {
+        wrappedRow = context.copy(wrappedRow);
+        List<ModuleInfo> copies = new ArrayList<>(modules.size());
+        for (ModuleInfo info : modules) {
+            copies.add(new ModuleInfo(context.copy(info.module), info.moduleId));
+        }
+        modules = copies;
+    }
+
     /** Rebuilds and renders the row with editable wrappers and optional add control. */
     @Override
     public String render(RenderContext context) {
+        if (isFrozen()) {
+            return super.render(context);
+        }
         children.clear();
 
         // Build a fresh row with all modules at proper column widths
@@ -52,6 +52,7 @@ public class Grid extends HtmlTag {
      * @return this grid
      */
     public Grid withColumns(int columns) {
+        markChanged();
         this.columns = columns;
         updateClasses();
         return this;
@@ -64,6 +65,7 @@ public class Grid extends HtmlTag {
      * @return this grid
      */
     public Grid withGap(String gap) {
+        markChanged();
         this.gap = gap;
         updateClasses();
         return this;
@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Div;
@@ -111,6 +112,19 @@ public class AccordionModule extends Module {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        List<AccordionItem> copies = new ArrayList<>(items.size());
+        for (AccordionItem item : items) {
+            AccordionItem copy = item.customContent != null
+                    ? new AccordionItem(item.header, context.copy(item.customContent))
+                    : new AccordionItem(item.header, item.content);
+            copy.setExpanded(item.expanded);
+            copies.add(copy);
+        }
+        items = copies;
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Div;
@@ -139,6 +140,11 @@ public class CalloutModule extends Module {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        customContent = context.copy(customContent);
+    }
+
     @Override
     protected void buildContent() {
         Div callout = new Div().withClass("callout " + type.getCssClass());
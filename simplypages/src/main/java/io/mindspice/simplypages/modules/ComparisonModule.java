@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Div;
@@ -122,6 +123,12 @@ public class ComparisonModule extends Module {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        columns = context.copyAll(columns);
+        rows = context.copyAll(rows);
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
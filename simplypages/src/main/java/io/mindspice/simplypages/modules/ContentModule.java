@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Div;
@@ -73,6 +74,11 @@ public class ContentModule extends Module implements Editable<ContentModule> {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        customContent = context.copy(customContent);
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
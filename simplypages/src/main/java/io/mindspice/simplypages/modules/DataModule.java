@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Header;
@@ -59,6 +60,12 @@ public class DataModule<T> extends Module {
         return this;
     }
 
+    /** Detaches the backing table from the prototype. */
+    @Override
+    protected void cloneState(CloneContext context) {
+        dataTable = context.copy(dataTable);
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
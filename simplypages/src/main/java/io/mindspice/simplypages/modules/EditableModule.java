@@ -2,7 +2,9 @@ package io.mindspice.simplypages.modules;
 
 import io.mindspice.simplypages.components.Div;
 import io.mindspice.simplypages.components.forms.Button;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
+import io.mindspice.simplypages.core.IdScope;
 import io.mindspice.simplypages.core.Module;
 
 /**
@@ -19,9 +21,7 @@ import io.mindspice.simplypages.core.Module;
  */
 public class EditableModule extends Div {
 
-    private static int idCounter = 0;  // For generating unique IDs
-
-    private final Component wrappedModule;
+    private Component wrappedModule;
     private boolean built = false;  // Track if buildWrapper has been called
     private String moduleId;  // ID for targeting
 
@@ -54,8 +54,8 @@ public class EditableModule extends Div {
         super();
         this.wrappedModule = wrappedModule;
         this.withClass("editable-module-wrapper");
-        // Generate a unique ID for targeting
-        this.moduleId = "editable-module-" + (++idCounter);
+        // Generate an ID for targeting; deterministic inside an IdScope
+        this.moduleId = IdScope.next("editable-module");
         this.withAttribute("id", this.moduleId);
     }
 
@@ -320,6 +320,16 @@ public class EditableModule extends Div {
         super.withChild(wrappedModule);
     }
 
+    /**
+     * Re-points the wrapped module reference at its clone.
+     *
+     * @param context clone pass
+     */
+    @Override
+    protected void cloneState(CloneContext context) {
+        wrappedModule = context.copy(wrappedModule);
+    }
+
     /**
      * Renders this EditableModule and its wrapped module with context.
      *
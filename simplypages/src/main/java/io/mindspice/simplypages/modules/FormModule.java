@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Header;
@@ -70,6 +71,12 @@ public class FormModule extends Module {
         return this;
     }
 
+    /** Detaches the wrapped form from the prototype. */
+    @Override
+    protected void cloneState(CloneContext context) {
+        form = context.copy(form);
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
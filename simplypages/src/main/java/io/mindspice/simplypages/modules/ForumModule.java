@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Header;
@@ -47,6 +48,12 @@ public class ForumModule extends Module {
         return this;
     }
 
+    /** Detaches the wrapped post list from the prototype. */
+    @Override
+    protected void cloneState(CloneContext context) {
+        postList = context.copy(postList);
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Header;
@@ -58,6 +59,12 @@ public class GalleryModule extends Module {
         return this;
     }
 
+    /** Detaches the wrapped gallery from the prototype. */
+    @Override
+    protected void cloneState(CloneContext context) {
+        gallery = context.copy(gallery);
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Div;
@@ -127,6 +128,11 @@ public class HeroModule extends Module {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        customContent = context.copy(customContent);
+    }
+
     @Override
     protected void buildContent() {
         // Apply background styling
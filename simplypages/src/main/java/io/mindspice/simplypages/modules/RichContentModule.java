@@ -5,6 +5,7 @@ import io.mindspice.simplypages.components.Header;
 import io.mindspice.simplypages.components.Image;
 import io.mindspice.simplypages.components.Paragraph;
 import io.mindspice.simplypages.components.navigation.Link;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.Module;
 import io.mindspice.simplypages.editing.Editable;
@@ -22,7 +23,7 @@ import java.util.*;
  */
 public class RichContentModule extends Module implements Editable<RichContentModule> {
 
-    private final List<Component> contentItems = new ArrayList<>();
+    private List<Component> contentItems = new ArrayList<>();
 
     public RichContentModule(String title) {
         super("div");
@@ -72,6 +73,11 @@ public class RichContentModule extends Module implements Editable<RichContentMod
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        contentItems = context.copyAll(contentItems);
+    }
+
     @Override
     protected void buildContent() {
         // Build module structure
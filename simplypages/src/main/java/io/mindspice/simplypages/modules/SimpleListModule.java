@@ -4,6 +4,7 @@ import io.mindspice.simplypages.components.Div;
 import io.mindspice.simplypages.components.Header;
 import io.mindspice.simplypages.components.ListItem;
 import io.mindspice.simplypages.components.Paragraph;
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Component;
 import io.mindspice.simplypages.core.HtmlTag;
 import io.mindspice.simplypages.core.Module;
@@ -22,7 +23,7 @@ import java.util.*;
  */
 public class SimpleListModule extends Module implements Editable<SimpleListModule> {
 
-    private final List<ListItem> items = new ArrayList<>();
+    private List<ListItem> items = new ArrayList<>();
 
     public SimpleListModule() {
         super("div");
@@ -66,6 +67,11 @@ public class SimpleListModule extends Module implements Editable<SimpleListModul
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        items = context.copyAll(items);
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
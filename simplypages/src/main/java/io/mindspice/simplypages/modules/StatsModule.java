@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Div;
@@ -94,6 +95,11 @@ public class StatsModule extends Module {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        stats = context.copyAll(stats);
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
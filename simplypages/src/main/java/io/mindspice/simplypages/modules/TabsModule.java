@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Div;
@@ -115,6 +116,19 @@ public class TabsModule extends Module {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        List<Tab> copies = new ArrayList<>(tabs.size());
+        for (Tab tab : tabs) {
+            Tab copy = tab.customContent != null
+                    ? new Tab(tab.label, context.copy(tab.customContent))
+                    : new Tab(tab.label, tab.content);
+            copy.setActive(tab.active);
+            copies.add(copy);
+        }
+        tabs = copies;
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
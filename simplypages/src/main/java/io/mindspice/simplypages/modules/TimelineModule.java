@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.modules;
 
+import io.mindspice.simplypages.core.CloneContext;
 import io.mindspice.simplypages.core.Module;
 
 import io.mindspice.simplypages.components.Div;
@@ -112,6 +113,17 @@ public class TimelineModule extends Module {
         return this;
     }
 
+    @Override
+    protected void cloneState(CloneContext context) {
+        List<TimelineEvent> copies = new ArrayList<>(events.size());
+        for (TimelineEvent event : events) {
+            copies.add(event.customContent != null
+                    ? new TimelineEvent(event.date, event.eventTitle, context.copy(event.customContent))
+                    : event);
+        }
+        events = copies;
+    }
+
     @Override
     protected void buildContent() {
         if (title != null && !title.isEmpty()) {
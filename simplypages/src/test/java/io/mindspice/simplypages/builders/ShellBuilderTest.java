@@ -54,6 +54,17 @@ class ShellBuilderTest {
         assertTrue(html.contains("htmx.min.js"));
     }
 
+    @Test
+    @DisplayName("ShellBuilder should build a minified document with the same structure")
+    void testBuildMinified() {
+        ShellBuilder shell = ShellBuilder.create().withPageTitle("Home").withContent(new Paragraph("Hi"));
+
+        String minified = shell.buildMinified();
+
+        assertTrue(minified.startsWith("<!DOCTYPE html><html lang=en><head><meta charset=UTF-8"));
+        assertEquals(Jsoup.parse(shell.build()).body().text(), Jsoup.parse(minified).body().text());
+    }
+
     @Test
     @DisplayName("ShellBuilder should include framework css by default")
     void testDefaultFrameworkCssIncluded() {
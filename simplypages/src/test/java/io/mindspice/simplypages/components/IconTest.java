@@ -3,6 +3,9 @@ package io.mindspice.simplypages.components;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IconTest {
@@ -37,4 +40,15 @@ class IconTest {
         assertTrue(html.contains("aria-hidden=\"false\""));
         assertTrue(html.contains("role=\"img\""));
     }
+
+    @Test
+    @DisplayName("Icon.shared should return one frozen instance per parameter combination")
+    void testSharedIcon() {
+        Icon icon = Icon.shared(Icon.IconLibrary.FONT_AWESOME, "edit", Icon.Size.SMALL);
+
+        assertSame(icon, Icon.shared(Icon.IconLibrary.FONT_AWESOME, "edit", Icon.Size.SMALL));
+        assertTrue(icon.isFrozen());
+        assertEquals(Icon.fontAwesome("edit").small().render(), icon.render());
+        assertThrows(IllegalStateException.class, icon::large);
+    }
 }
@@ -6,6 +6,8 @@ import io.mindspice.simplypages.testutil.SnapshotAssert;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 class CardTest {
 
     @Test
@@ -64,4 +66,19 @@ class CardTest {
             .hasElement("div.card > div.card-body > p")
             .elementTextEquals("div.card > div.card-body > p", "Body paragraph");
     }
+
+    @Test
+    @DisplayName("Card clone should detach header/body containers from the prototype")
+    void testCardCloneTreeIsolation() {
+        Card prototype = Card.create().withHeader("Header").withBody("Body");
+        String original = prototype.render();
+
+        Card clone = (Card) prototype.cloneTree();
+        clone.withHeader("Request Header").withFooter("Footer");
+
+        assertEquals(original, prototype.render());
+        HtmlAssert.assertThat(clone.render())
+            .elementTextEquals("div.card > div.card-header", "Request Header")
+            .elementTextEquals("div.card > div.card-footer", "Footer");
+    }
 }
@@ -3,7 +3,10 @@ package io.mindspice.simplypages.core;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AttributeTest {
@@ -27,4 +30,21 @@ class AttributeTest {
         assertTrue(html.contains("&#34;") || html.contains("&quot;"));
         assertFalse(html.contains("\" onload="));
     }
+
+    @Test
+    @DisplayName("Attribute should escape once and reuse the rendered form")
+    void testRenderedFormIsCached() {
+        Attribute attr = new Attribute("title", "a < b");
+
+        assertEquals(" title=\"a &lt; b\"", attr.render());
+        assertSame(attr.render(), attr.render());
+    }
+
+    @Test
+    @DisplayName("Attribute should compare by name and value")
+    void testValueEquality() {
+        assertEquals(new Attribute("id", "x"), new Attribute("id", "x"));
+        assertEquals(new Attribute("id", "x").hashCode(), new Attribute("id", "x").hashCode());
+        assertNotEquals(new Attribute("id", "x"), new Attribute("id", "y"));
+    }
 }
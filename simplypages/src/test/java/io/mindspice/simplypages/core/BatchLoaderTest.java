@@ -0,0 +1,108 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import io.mindspice.simplypages.components.Paragraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BatchLoaderTest {
+
+    private static final Map<Long, String> USERS = Map.of(1L, "Ann", 2L, "<Bob>", 3L, "Cy");
+
+    private static BatchLoader<Long, String> loader(List<Set<Long>> calls) {
+        return BatchLoader.of("users", ids -> {
+            calls.add(Set.copyOf(ids));
+            Map<Long, String> found = new HashMap<>();
+            ids.forEach(id -> {
+                if (USERS.containsKey(id)) {
+                    found.put(id, USERS.get(id));
+                }
+            });
+            return found;
+        });
+    }
+
+    @Test
+    @DisplayName("BatchLoader.prefetch should load every key in the tree with one call per loader")
+    void testPrefetchBatchesTree() {
+        List<Set<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> users = loader(calls);
+        Div page = new Div();
+        for (long author : new long[]{1, 2, 1, 3, 9}) {
+            page.withChild(new Paragraph().withChild(users.slot(author, name -> name)));
+        }
+
+        RenderContext context = RenderContext.empty();
+        BatchLoader.prefetch(context, page);
+        String html = page.render(context);
+
+        assertEquals(List.of(Set.of(1L, 2L, 3L, 9L)), calls);
+        assertEquals("<div><p>Ann</p><p>&lt;Bob&gt;</p><p>Ann</p><p>Cy</p><p></p></div>", html);
+        assertEquals("Ann", users.get(context, 1L));
+        assertEquals(1, calls.size());
+    }
+
+    @Test
+    @DisplayName("BatchLoader should cover template slot values and fall back to single loads")
+    void testTemplatePrefetchAndFallback() {
+        List<Set<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> users = loader(calls);
+        SlotKey<Component> body = SlotKey.of("body");
+        Template template = Template.of(new Div()
+            .withChild(users.slot(3L, name -> SafeHtml.trust("<b>" + name + "</b>")))
+            .withChild(Slot.of(body)));
+
+        RenderContext context = RenderContext.of(body, new Paragraph().withChild(users.slot(1L, name -> name)));
+        BatchLoader.prefetch(context, template);
+        assertEquals("<div><b>Cy</b><p>Ann</p></div>", template.render(context));
+        assertEquals(List.of(Set.of(1L, 3L)), calls);
+
+        calls.clear();
+        assertEquals("<p>&lt;Bob&gt;</p>", new Paragraph().withChild(users.slot(2L, name -> name)).render(context));
+        assertEquals(List.of(Set.of(2L)), calls);
+    }
+
+    @Test
+    @DisplayName("BatchLoader should store single loads on the rendering overlay, not its parent")
+    void testSingleLoadLeavesParentResults() {
+        List<Set<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> users = loader(calls);
+        RenderContext parent = RenderContext.empty();
+        BatchLoader.prefetch(parent, new Div().withChild(users.slot(1L, name -> name)));
+        RenderContext first = parent.overlay();
+        RenderContext second = parent.overlay();
+
+        assertEquals("<Bob>", users.get(first, 2L));
+        assertEquals("<Bob>", users.get(first, 2L));
+        assertEquals("Ann", users.get(second, 1L));
+        assertEquals("<Bob>", users.get(second, 2L));
+
+        assertEquals(List.of(Set.of(1L), Set.of(2L), Set.of(2L)), calls);
+    }
+
+    @Test
+    @DisplayName("BatchLoader should keep single loads on one render-local map")
+    void testSingleLoadsReuseRenderMap() {
+        List<Set<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> users = loader(calls);
+        RenderContext context = RenderContext.empty();
+
+        users.get(context, 1L);
+        Object results = context.getEntries().values().iterator().next();
+        users.get(context, 2L);
+        users.get(context, 3L);
+
+        assertSame(results, context.getEntries().values().iterator().next());
+        assertEquals("Ann", users.get(context, 1L));
+        assertEquals(List.of(Set.of(1L), Set.of(2L), Set.of(3L)), calls);
+    }
+}
@@ -0,0 +1,172 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import io.mindspice.simplypages.components.display.Spinner;
+import io.mindspice.simplypages.testutil.HtmlAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeferredTest {
+
+    private static final SlotKey<String> FEED = SlotKey.of("feed");
+
+    @Test
+    @DisplayName("Deferred should render an HTMX load placeholder and a matching section")
+    void testPlaceholderAndSection() {
+        Deferred deferred = Deferred.of(FEED, "/dashboard/feed").withPlaceholder(Spinner.create().small());
+        Template page = Template.of(new Div().withClass("dashboard").withChild(deferred));
+
+        String html = page.render(RenderContext.empty());
+        HtmlAssert.assertThat(html)
+            .hasElement("div.dashboard > div#deferred-feed[hx-get=/dashboard/feed][hx-trigger=load][hx-swap=outerHTML]")
+            .hasElement("div#deferred-feed > div.spinner");
+
+        String section = deferred.renderSection(RenderContext.of(FEED, "<new>"));
+        assertEquals("<div id=\"deferred-feed\">&lt;new&gt;</div>", section);
+    }
+
+    @Test
+    @DisplayName("DeferBudget should inline measured sections that fit and defer the rest")
+    void testBudgetedInlining() {
+        SlotKey<String> stats = SlotKey.of("stats");
+        DeferBudget budget = new DeferBudget(Duration.ofMillis(10));
+        Deferred fast = Deferred.of(stats, "/stats");
+        Deferred slow = Deferred.of(FEED, "/feed");
+        Div page = new Div().withChild(fast).withChild(slow);
+
+        RenderContext first = budget.attach(RenderContext.builder().with(stats, "42").with(FEED, "items").build());
+        HtmlAssert.assertThat(page.render(first)).hasElement("div#deferred-stats[hx-get=/stats]");
+
+        budget.record(stats, Duration.ofMillis(2).toNanos());
+        budget.record(FEED, Duration.ofMillis(50).toNanos());
+        RenderContext second = budget.attach(RenderContext.builder().with(stats, "42").with(FEED, "items").build());
+        String html = page.render(second);
+
+        assertTrue(html.contains("<div id=\"deferred-stats\">42</div>"));
+        HtmlAssert.assertThat(html).hasElement("div#deferred-feed[hx-get=/feed]");
+        assertFalse(html.contains("items"));
+        assertTrue(second.get(DeferBudget.PAGE).orElseThrow().remainingNanos() <= Duration.ofMillis(8).toNanos());
+    }
+
+    @Test
+    @DisplayName("DeferBudget should not inline a section whose value is missing")
+    void testBudgetedInliningWithoutValue() {
+        DeferBudget budget = new DeferBudget(Duration.ofMillis(10));
+        budget.record(FEED, Duration.ofMillis(1).toNanos());
+        Div page = new Div().withChild(Deferred.of(FEED, "/feed"));
+
+        RenderContext context = budget.attach(RenderContext.empty());
+        String html = page.render(context);
+
+        HtmlAssert.assertThat(html).hasElement("div#deferred-feed[hx-get=/feed]");
+        assertEquals(Duration.ofMillis(10).toNanos(), context.get(DeferBudget.PAGE).orElseThrow().remainingNanos());
+    }
+
+    @Test
+    @DisplayName("Deferred should reserve budget once when the handler decides before loading")
+    void testReserveBeforeLoading() {
+        SlotKey<String> stats = SlotKey.of("stats");
+        DeferBudget budget = new DeferBudget(Duration.ofMillis(10));
+        budget.record(FEED, Duration.ofMillis(6).toNanos());
+        budget.record(stats, Duration.ofMillis(6).toNanos());
+        Deferred feed = Deferred.of(FEED, "/feed");
+        Deferred counts = Deferred.of(stats, "/stats");
+        RenderContext context = budget.attach(RenderContext.empty());
+        DeferBudget.Page page = context.get(DeferBudget.PAGE).orElseThrow();
+
+        assertTrue(page.fits(FEED));
+        assertEquals(Duration.ofMillis(10).toNanos(), page.remainingNanos());
+        assertTrue(feed.reserveInline(context));
+        assertTrue(feed.reserveInline(context));
+        assertFalse(counts.reserveInline(context));
+        context.put(FEED, "items");
+        context.put(stats, "42");
+
+        String html = new Div().withChild(feed).withChild(counts).render(context);
+        assertTrue(html.contains("<div id=\"deferred-feed\">items</div>"));
+        HtmlAssert.assertThat(html).hasElement("div#deferred-stats[hx-get=/stats]");
+        assertEquals(Duration.ofMillis(4).toNanos(), page.remainingNanos());
+    }
+
+    @Test
+    @DisplayName("Deferred withId and withPlaceholder should leave the original unchanged")
+    void testWithReturnsCopy() {
+        Deferred shared = Deferred.of(FEED, "/feed");
+        Deferred custom = shared.withId("feed-panel").withPlaceholder(Spinner.create().small());
+
+        assertEquals("deferred-feed", shared.getId());
+        assertEquals("feed-panel", custom.getId());
+        assertEquals("<div id=\"deferred-feed\" hx-get=\"/feed\" hx-trigger=\"load\" hx-swap=\"outerHTML\"></div>",
+            shared.renderPlaceholder(RenderContext.empty()));
+        HtmlAssert.assertThat(custom.renderPlaceholder(RenderContext.empty())).hasElement("div#feed-panel > div.spinner");
+    }
+
+    @Test
+    @DisplayName("DeferredBatch should load all deferred sections with one request of OOB fragments")
+    void testBatchedSections() {
+        SlotKey<String> stats = SlotKey.of("stats");
+        Deferred feed = Deferred.of(FEED, "/feed").withPlaceholder(Spinner.create().small());
+        Deferred counts = Deferred.of(stats, "/stats");
+        DeferredBatch batch = DeferredBatch.of("/sections", feed, counts);
+        Div page = new Div().withChild(feed).withChild(counts).withChild(batch.trigger());
+
+        String html = page.render(batch.attach(RenderContext.empty()));
+        HtmlAssert.assertThat(html)
+            .hasElement("div#deferred-feed > div.spinner")
+            .hasElement("div[hx-trigger=load][hx-swap=none]");
+        assertTrue(html.contains("hx-get=\"/sections?ids=deferred-feed%2Cdeferred-stats\""));
+        assertFalse(html.contains("hx-get=\"/feed\""));
+
+        RenderContext endpoint = RenderContext.builder().with(FEED, "items").with(stats, "42").build();
+        String fragments = batch.renderFragments("deferred-stats,unknown,deferred-feed", endpoint);
+        assertEquals("<div id=\"deferred-stats\" hx-swap-oob=\"true\">42</div>"
+            + "<div id=\"deferred-feed\" hx-swap-oob=\"true\">items</div>", fragments);
+        assertEquals("", batch.renderFragments((String) null, endpoint));
+    }
+
+    @Test
+    @DisplayName("DeferredBatch should reject sections rendered after the trigger")
+    void testBatchTriggerBeforeSection() {
+        Deferred feed = Deferred.of(FEED, "/feed");
+        DeferredBatch batch = DeferredBatch.of("/sections", feed);
+        Div page = new Div().withChild(batch.trigger()).withChild(feed);
+
+        assertThrows(IllegalStateException.class, () -> page.render(batch.attach(RenderContext.empty())));
+    }
+
+    @Test
+    @DisplayName("DeferredBatch should record every section registered from parallel renders")
+    void testBatchConcurrentRegistration() throws Exception {
+        Deferred[] sections = new Deferred[64];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = Deferred.of(SlotKey.of("section" + i), "/section" + i);
+        }
+        DeferredBatch batch = DeferredBatch.of("/sections", sections);
+        RenderContext context = batch.attach(RenderContext.empty());
+        DeferredBatch.Page page = context.get(DeferredBatch.PAGE).orElseThrow();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<String>> renders = new ArrayList<>();
+            for (Deferred section : sections) {
+                renders.add(executor.submit(() -> section.render(context)));
+            }
+            for (Future<String> render : renders) {
+                render.get();
+            }
+        }
+
+        assertEquals(sections.length, page.ids().size());
+    }
+}
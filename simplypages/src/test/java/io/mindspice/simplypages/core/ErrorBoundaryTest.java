@@ -0,0 +1,168 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorBoundaryTest {
+
+    private static final SlotKey<Integer> PRICE = SlotKey.of("price");
+
+    /** Renders the price slot, failing for negative prices. */
+    private static final Component PRICE_TEXT = new Component() {
+        @Override
+        public String render(RenderContext context) {
+            int price = context.get(PRICE).orElse(0);
+            if (price < 0) {
+                throw new IllegalStateException("price feed unavailable");
+            }
+            return "<span>" + price + "</span>";
+        }
+    };
+
+    /** Renders static markup, failing while {@code failing} is set. */
+    private static class FlakyBanner implements Component {
+        private boolean failing;
+
+        @Override
+        public String render(RenderContext context) {
+            if (failing) {
+                throw new IllegalStateException("banner unavailable");
+            }
+            return "<p>banner</p>";
+        }
+    }
+
+    private static class PageModule extends Module {
+        private final Component content;
+
+        private PageModule(Component content) {
+            super("main");
+            this.content = content;
+        }
+
+        @Override
+        protected void buildContent() {
+            super.withChild(content);
+        }
+    }
+
+    private static class PriceModule extends Module {
+        private boolean failBuild;
+        private int buildCount;
+
+        private PriceModule() {
+            super("div");
+        }
+
+        @Override
+        protected void buildContent() {
+            buildCount++;
+            super.withChild(new Div().withClass("label"));
+            if (failBuild) {
+                throw new IllegalStateException("build failed");
+            }
+            super.withChild(PRICE_TEXT);
+        }
+    }
+
+    @Test
+    @DisplayName("ErrorBoundary should serve the last good module output and report the failure")
+    void testModuleLastGood() {
+        List<Boolean> reports = new ArrayList<>();
+        ErrorBoundary boundary = ErrorBoundary.create()
+            .withCacheKey(context -> "prices")
+            .withListener((context, error, servedLastGood) -> reports.add(servedLastGood));
+        PriceModule module = new PriceModule();
+        module.withErrorBoundary(boundary);
+
+        String good = module.render(RenderContext.of(PRICE, 42));
+        String failed = module.render(RenderContext.of(PRICE, -1));
+
+        assertEquals(good, failed);
+        assertTrue(failed.contains("<span>42</span>"));
+        assertEquals(List.of(true), reports);
+    }
+
+    @Test
+    @DisplayName("ErrorBoundary should render the fallback before any success and retry builds cleanly")
+    void testBuildFailureFallback() {
+        ErrorBoundary boundary = ErrorBoundary.create().withFallback(new Div().withClass("unavailable"));
+        PriceModule module = new PriceModule();
+        module.failBuild = true;
+        module.withErrorBoundary(boundary);
+
+        assertEquals("<div class=\"unavailable\"></div>", module.render(RenderContext.of(PRICE, 1)));
+
+        module.failBuild = false;
+        String html = module.render(RenderContext.of(PRICE, 1));
+
+        assertEquals(2, module.buildCount);
+        assertEquals(1, html.split("class=\"label\"", -1).length - 1);
+    }
+
+    @Test
+    @DisplayName("ErrorBoundary should key last good output by context")
+    void testCacheKey() {
+        SlotKey<String> user = SlotKey.of("user");
+        ErrorBoundary boundary = ErrorBoundary.create()
+            .withCacheKey(context -> context.get(user).orElse(null));
+        Component region = boundary.guard(PRICE_TEXT);
+
+        region.render(RenderContext.of(PRICE, 5).put(user, "alice"));
+
+        assertEquals("<span>5</span>", region.render(RenderContext.of(PRICE, -1).put(user, "alice")));
+        assertEquals("", region.render(RenderContext.of(PRICE, -1).put(user, "bob")));
+    }
+
+    @Test
+    @DisplayName("ErrorBoundary should let render budget aborts pass through")
+    void testBudgetPassThrough() {
+        Component region = ErrorBoundary.create().guard(new Div().withChild(new Div().withChild(new Div())));
+        RenderContext context = RenderBudget.create().withMaxDepth(1).attach(RenderContext.empty());
+
+        assertThrows(RenderBudget.ExceededException.class, () -> region.render(context));
+        assertFalse(region.render(RenderContext.empty()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ErrorBoundary.create().withCacheSize(0));
+    }
+
+    @Test
+    @DisplayName("ErrorBoundary should keep default last good output only for renders that read no slots")
+    void testDefaultKeySlotIndependentOnly() {
+        Component prices = ErrorBoundary.create().guard(PRICE_TEXT);
+        FlakyBanner banner = new FlakyBanner();
+        Component bannerRegion = ErrorBoundary.create().guard(banner);
+
+        prices.render(RenderContext.of(PRICE, 5));
+        bannerRegion.render(RenderContext.empty());
+        banner.failing = true;
+
+        assertEquals("", prices.render(RenderContext.of(PRICE, -1)));
+        assertEquals("<p>banner</p>", bannerRegion.render(RenderContext.empty()));
+    }
+
+    @Test
+    @DisplayName("ErrorBoundary replacements should not be cached by the enclosing module")
+    void testReplacementNotCachedByModule() {
+        FlakyBanner banner = new FlakyBanner();
+        banner.failing = true;
+        PageModule page = new PageModule(ErrorBoundary.create()
+            .withFallback(new Div().withClass("unavailable"))
+            .guard(banner));
+
+        String failed = page.render(RenderContext.empty());
+        banner.failing = false;
+        String recovered = page.render(RenderContext.empty());
+
+        assertTrue(failed.contains("class=\"unavailable\""));
+        assertEquals("<main class=\"module\"><p>banner</p></main>", recovered);
+    }
+}
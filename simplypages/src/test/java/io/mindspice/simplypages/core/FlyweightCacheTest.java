@@ -0,0 +1,60 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlyweightCacheTest {
+
+    @Test
+    @DisplayName("FlyweightCache should build each key once and freeze the shared instance")
+    void testSharedInstances() {
+        AtomicInteger builds = new AtomicInteger();
+        FlyweightCache<String, Div> cache = FlyweightCache.create(8, name -> {
+            builds.incrementAndGet();
+            return new Div().withClass(name);
+        });
+
+        Div first = cache.get("chip");
+
+        assertSame(first, cache.get("chip"));
+        assertEquals(1, builds.get());
+        assertTrue(first.isFrozen());
+        assertThrows(IllegalStateException.class, () -> first.withClass("other"));
+    }
+
+    @Test
+    @DisplayName("FlyweightCache should stop retaining instances at its bound")
+    void testBound() {
+        FlyweightCache<String, Div> cache = FlyweightCache.create(1, name -> new Div().withClass(name));
+
+        cache.get("a");
+        Div overflow = cache.get("b");
+
+        assertEquals(1, cache.size());
+        assertTrue(overflow.isFrozen());
+        assertNotSame(overflow, cache.get("b"));
+        assertThrows(IllegalArgumentException.class, () -> FlyweightCache.create(-1, name -> new Div()));
+    }
+
+    @Test
+    @DisplayName("FlyweightCache instances should compile into templates as static markup")
+    void testTemplateCompilation() {
+        FlyweightCache<String, Div> cache = FlyweightCache.create(4, name -> new Div().withClass(name));
+        Template template = Template.of(new Div().withChild(cache.get("chip")));
+        AtomicInteger dynamic = new AtomicInteger();
+
+        template.forEachDynamicComponent(component -> dynamic.incrementAndGet());
+
+        assertEquals(0, dynamic.get());
+        assertEquals("<div><div class=\"chip\"></div></div>", template.render(RenderContext.empty()));
+    }
+}
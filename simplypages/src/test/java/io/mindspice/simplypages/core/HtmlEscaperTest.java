@@ -0,0 +1,76 @@
+package io.mindspice.simplypages.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.owasp.encoder.Encode;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HtmlEscaperTest {
+
+    private static void assertMatchesOwasp(String input) {
+        assertEquals(Encode.forHtml(input), HtmlEscaper.forHtml(input), () -> "forHtml: " + codePoints(input));
+        assertEquals(Encode.forHtmlAttribute(input), HtmlEscaper.forHtmlAttribute(input),
+            () -> "forHtmlAttribute: " + codePoints(input));
+        StringBuilder sb = new StringBuilder("prefix");
+        HtmlEscaper.appendHtml(sb, input);
+        assertEquals("prefix" + Encode.forHtml(input), sb.toString());
+    }
+
+    private static String codePoints(String input) {
+        return input.codePoints().mapToObj(Integer::toHexString).toList().toString();
+    }
+
+    @Test
+    @DisplayName("HtmlEscaper should match OWASP for every BMP character alone and in context")
+    void testEveryBmpCharacter() {
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            String ch = String.valueOf((char) c);
+            assertMatchesOwasp(ch);
+            assertMatchesOwasp("ab" + ch + "cd");
+        }
+    }
+
+    @Test
+    @DisplayName("HtmlEscaper should match OWASP for surrogate pairs and noncharacters")
+    void testSupplementaryCharacters() {
+        for (int plane = 1; plane <= 0x10; plane++) {
+            int base = plane << 16;
+            for (int cp : new int[]{base, base + 0xF600, base + 0xFFFD, base + 0xFFFE, base + 0xFFFF}) {
+                assertMatchesOwasp("x" + new String(Character.toChars(cp)) + "y");
+            }
+        }
+        assertMatchesOwasp("\uDE00\uD83D");
+        assertMatchesOwasp("\uD83D");
+        assertMatchesOwasp("a\uD83D<");
+    }
+
+    @Test
+    @DisplayName("HtmlEscaper should match OWASP on random mixed input")
+    void testRandomDifferential() {
+        Random random = new Random(42);
+        char[] pool = {'a', 'Z', ' ', '&', '<', '>', '"', '\'', '\t', '\n', '\u0000', '\u007F', '\u0085',
+            'é', ' ', '﷐', '￾', '\uD83D', '\uDE00', '\uD83F', '\uDFFF'};
+        for (int round = 0; round < 20_000; round++) {
+            char[] chars = new char[random.nextInt(24)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = random.nextInt(4) == 0 ? (char) random.nextInt(0x10000) : pool[random.nextInt(pool.length)];
+            }
+            assertMatchesOwasp(new String(chars));
+        }
+    }
+
+    @Test
+    @DisplayName("HtmlEscaper should return the input instance when nothing needs escaping")
+    void testNoCopyFastPath() {
+        String text = "Plain text with unicode é中 and emoji 😀";
+        String attribute = "value > 1";
+
+        assertSame(text, HtmlEscaper.forHtml(text));
+        assertSame(attribute, HtmlEscaper.forHtmlAttribute(attribute));
+        assertEquals("null", HtmlEscaper.forHtml(null));
+    }
+}
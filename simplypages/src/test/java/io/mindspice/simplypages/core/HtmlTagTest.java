@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.core;
 
+import io.mindspice.simplypages.components.navigation.SideNav;
 import io.mindspice.simplypages.testutil.HtmlAssert;
 import io.mindspice.simplypages.testutil.SnapshotAssert;
 import org.jsoup.Jsoup;
@@ -12,8 +13,12 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class HtmlTagTest {
 
@@ -156,6 +161,157 @@ class HtmlTagTest {
         assertThrows(IllegalArgumentException.class, () -> new HtmlTag("div").withMinWidth("-10px"));
     }
 
+    @Test
+    @DisplayName("HtmlTag clone should render identically and keep the runtime type")
+    void testCloneTreeRendersIdentically() {
+        HtmlTag prototype = new HtmlTag("section").withClass("panel").withAttribute("data-role", "main")
+            .withChild(new HtmlTag("h2").withInnerText("Title"))
+            .withChild(new HtmlTag("p").withClass("body").withInnerText("Body"));
+
+        HtmlTag clone = prototype.cloneTree();
+
+        assertNotSame(prototype, clone);
+        assertEquals(prototype.getClass(), clone.getClass());
+        assertEquals(prototype.render(), clone.render());
+    }
+
+    @Test
+    @DisplayName("HtmlTag clone mutations should not leak into the prototype and vice versa")
+    void testCloneTreeCopyOnWriteIsolation() {
+        HtmlTag paragraph = new HtmlTag("p").withClass("body").withInnerText("Body");
+        HtmlTag prototype = new HtmlTag("section").withClass("panel").withChild(paragraph);
+        String original = prototype.render();
+
+        HtmlTag clone = prototype.cloneTree();
+        clone.withClass("request").withAttribute("data-user", "alice")
+            .withChild(new HtmlTag("footer").withInnerText("Footer"));
+        HtmlTag clonedParagraph = (HtmlTag) clone.children.get(0);
+        clonedParagraph.withInnerText("Changed").withClass("highlight");
+
+        assertEquals(original, prototype.render());
+        HtmlAssert.assertThat(clone.render())
+            .hasElement("section.panel.request[data-user=alice]")
+            .elementTextEquals("section > p.body.highlight", "Changed")
+            .hasElement("section > footer");
+
+        prototype.withAttribute("data-version", "2");
+        HtmlAssert.assertThat(clone.render()).doesNotHaveElement("section[data-version]");
+    }
+
+    @Test
+    @DisplayName("HtmlTag clone should share attribute storage and immutable leaves until written")
+    void testCloneTreeSharesUntilWrite() {
+        Component leaf = new Component() {
+            @Override
+            public String render(RenderContext context) {
+                return "<em>leaf</em>";
+            }
+        };
+        HtmlTag prototype = new HtmlTag("div").withClass("shared").withChild(leaf);
+
+        HtmlTag clone = prototype.cloneTree();
+
+        assertSame(leaf, clone.children.get(0));
+        assertSame(prototype.attributes.get(0), clone.attributes.get(0));
+    }
+
+    @Test
+    @DisplayName("HtmlTag clone should copy mutable leaf components")
+    void testCloneTreeCopiesMutableLeaves() {
+        SideNav.NavItem item = new SideNav.NavItem("Home", "/", false);
+        HtmlTag prototype = new HtmlTag("div").withChild(SideNav.create().addItem(item));
+
+        HtmlTag clone = prototype.cloneTree();
+        item.withHxGet("/changed");
+
+        HtmlAssert.assertThat(clone.render()).doesNotHaveElement("a[hx-get]");
+        HtmlAssert.assertThat(prototype.render()).hasElement("a[hx-get=/changed]");
+    }
+
+    @Test
+    @DisplayName("HtmlTag prepared as a prototype should still share storage and isolate later writes")
+    void testAsPrototype() {
+        HtmlTag prototype = new HtmlTag("div").withClass("shared")
+            .withChild(new HtmlTag("p").withInnerText("Body"))
+            .asPrototype();
+
+        HtmlTag clone = prototype.cloneTree();
+        prototype.withChild(new HtmlTag("footer"));
+
+        assertSame(prototype.attributes.get(0), clone.attributes.get(0));
+        HtmlAssert.assertThat(clone.render()).doesNotHaveElement("footer");
+    }
+
+    @Test
+    @DisplayName("Frozen HtmlTag should reject state-changing mutators and direct list writes")
+    void testFreezeRejectsMutation() {
+        HtmlTag child = new HtmlTag("span").withInnerText("x");
+        HtmlTag tag = new HtmlTag("div").withClass("card").withChild(child).freeze();
+
+        assertTrue(tag.isFrozen());
+        assertTrue(child.isFrozen());
+        assertThrows(IllegalStateException.class, () -> tag.withAttribute("data-x", "1"));
+        assertThrows(IllegalStateException.class, () -> tag.withChild(new HtmlTag("p")));
+        assertThrows(IllegalStateException.class, () -> tag.withClass("other"));
+        assertThrows(IllegalStateException.class, () -> child.withInnerText("y"));
+        assertThrows(IllegalStateException.class, () -> tag.children.clear());
+        assertThrows(IllegalStateException.class, () -> tag.attributes.add(new Attribute("a", "b")));
+
+        // Re-applying existing state is tolerated for render-time normalization.
+        tag.withClass("card");
+        child.withInnerText("x");
+    }
+
+    @Test
+    @DisplayName("Frozen slot-free HtmlTag should render memoized HTML without re-rendering children")
+    void testFreezeMemoizesStaticSubtree() {
+        int[] renders = new int[1];
+        Component counting = new Component() {
+            @Override
+            public String render(RenderContext context) {
+                renders[0]++;
+                return "<i>n</i>";
+            }
+        };
+        HtmlTag tag = new HtmlTag("div").withChild(counting);
+        String expected = tag.render();
+        renders[0] = 0;
+
+        tag.freeze();
+        HtmlTag parent = new HtmlTag("section").withChild(tag);
+
+        assertEquals(expected, tag.render());
+        assertEquals("<section>" + expected + "</section>", parent.render());
+        assertSame(tag.render(), tag.render());
+        assertEquals(1, renders[0]);
+    }
+
+    @Test
+    @DisplayName("Frozen HtmlTag containing slots should keep resolving per render")
+    void testFreezeWithSlotStaysDynamic() {
+        SlotKey<String> name = SlotKey.of("name");
+        HtmlTag tag = new HtmlTag("p").withInnerText(name).freeze();
+
+        assertEquals("<p>Alice</p>", tag.render(RenderContext.builder().with(name, "Alice").build()));
+        assertEquals("<p>Bob</p>", tag.render(RenderContext.builder().with(name, "Bob").build()));
+    }
+
+    @Test
+    @DisplayName("cloneTree should share frozen children and thaw a frozen root")
+    void testCloneTreeWithFrozenSubtrees() {
+        HtmlTag frozenChild = new HtmlTag("nav").withClass("menu").freeze();
+        HtmlTag parent = new HtmlTag("div").withChild(frozenChild);
+
+        HtmlTag clone = parent.cloneTree();
+        assertSame(frozenChild, clone.children.get(0));
+
+        HtmlTag thawed = frozenChild.cloneTree();
+        assertFalse(thawed.isFrozen());
+        thawed.withClass("open");
+        assertEquals("<nav class=\"menu\"></nav>", frozenChild.render());
+        HtmlAssert.assertThat(thawed.render()).hasElement("nav.menu.open");
+    }
+
     private static Map<String, String> parseStyles(String html) {
         Document document = Jsoup.parseBodyFragment(html);
         Element div = document.selectFirst("div");
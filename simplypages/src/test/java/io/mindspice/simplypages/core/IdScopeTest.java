@@ -0,0 +1,54 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.display.Modal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IdScopeTest {
+
+    @Test
+    @DisplayName("IdScope should make generated ids identical across builds")
+    void testDeterministicIds() {
+        String first;
+        try (IdScope ids = IdScope.open("orders")) {
+            first = Modal.create().withTitle("Edit").render();
+        }
+        String second;
+        try (IdScope ids = IdScope.open("orders")) {
+            second = Modal.create().withTitle("Edit").render();
+        }
+        assertEquals(first, second);
+        assertFalse(IdScope.isOpen());
+    }
+
+    @Test
+    @DisplayName("IdScope should number ids per prefix and namespace them by seed")
+    void testNumbering() {
+        try (IdScope ids = IdScope.open()) {
+            assertEquals("modal-1", IdScope.next("modal"));
+            assertEquals("checkbox-1", IdScope.next("checkbox"));
+            assertEquals("modal-2", IdScope.next("modal"));
+            try (IdScope nested = IdScope.open("fragment")) {
+                assertNotEquals("modal-1", IdScope.next("modal"));
+            }
+            assertEquals("modal-3", IdScope.next("modal"));
+        }
+        assertNotEquals(IdScope.next("modal"), IdScope.next("modal"));
+    }
+
+    @Test
+    @DisplayName("IdScope should reject closing an outer scope before a nested one")
+    void testCloseOrder() {
+        IdScope outer = IdScope.open();
+        IdScope inner = IdScope.open();
+        assertThrows(IllegalStateException.class, outer::close);
+        inner.close();
+        outer.close();
+        assertFalse(IdScope.isOpen());
+    }
+}
@@ -1,5 +1,6 @@
 package io.mindspice.simplypages.core;
 
+import io.mindspice.simplypages.components.navigation.SideNav;
 import io.mindspice.simplypages.testutil.HtmlAssert;
 import io.mindspice.simplypages.testutil.SnapshotAssert;
 import org.junit.jupiter.api.DisplayName;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ModuleTest {
 
@@ -87,6 +89,152 @@ class ModuleTest {
             .elementTextEquals("div.module > span.module-content", "beta");
     }
 
+    @Test
+    @DisplayName("Module clone should keep built state and rebuild independently")
+    void testModuleCloneTree() {
+        TestModule prototype = new TestModule();
+        prototype.withTitle("Title");
+        prototype.withContent("alpha");
+        String original = prototype.render();
+
+        TestModule clone = (TestModule) prototype.cloneTree();
+        assertEquals(original, clone.render());
+        assertEquals(1, clone.buildCount);
+
+        clone.withContent("beta");
+        clone.rebuildNow();
+
+        assertEquals(original, prototype.render());
+        HtmlAssert.assertThat(clone.render())
+            .elementTextEquals("div.module > span.module-content", "beta");
+    }
+
+    @Test
+    @DisplayName("Module freeze should build once and reject further configuration")
+    void testModuleFreeze() {
+        TestModule module = new TestModule();
+        module.withTitle("Title");
+        module.withContent("alpha");
+
+        module.freeze();
+
+        assertEquals(1, module.buildCount);
+        assertThrows(IllegalStateException.class, () -> module.withTitle("Other"));
+        assertThrows(IllegalStateException.class, module::rebuildNow);
+        HtmlAssert.assertThat(module.render())
+            .elementTextEquals("div.module > h2.module-title", "Title")
+            .elementTextEquals("div.module > span.module-content", "alpha");
+        assertEquals(1, module.buildCount);
+    }
+
+    private static class CountingLeaf extends MutableComponent {
+        private int renders = 0;
+        private String text = "leaf";
+
+        private CountingLeaf withText(String text) {
+            markChanged();
+            this.text = text;
+            return this;
+        }
+
+        @Override
+        public String render(RenderContext context) {
+            renders++;
+            return "<i>" + text + "</i>";
+        }
+    }
+
+    @Test
+    @DisplayName("Module should serve cached output until it or its subtree changes")
+    void testModuleRenderCache() {
+        CountingLeaf leaf = new CountingLeaf();
+        TestModule module = new TestModule();
+        module.withContent("alpha");
+        module.build();
+        module.withChild(leaf);
+
+        String first = module.render();
+        assertEquals(first, module.render());
+        assertEquals(first, module.render());
+        assertEquals(2, leaf.renders);
+
+        HtmlTag content = (HtmlTag) module.children.get(0);
+        content.withInnerText("beta");
+        HtmlAssert.assertThat(module.render())
+            .elementTextEquals("div.module > span.module-content", "beta");
+        module.render();
+        assertEquals(3, leaf.renders);
+
+        leaf.withText("changed");
+        HtmlAssert.assertThat(module.render()).elementTextEquals("div.module > i", "changed");
+        assertEquals(4, leaf.renders);
+
+        module.markDirty();
+        module.render();
+        assertEquals(5, leaf.renders);
+    }
+
+    @Test
+    @DisplayName("Module should invalidate cached output when a nested navigation item changes")
+    void testModuleRenderCacheSeesLeafSetters() {
+        SideNav.NavItem item = new SideNav.NavItem("Home", "/", false);
+        TestModule module = new TestModule();
+        module.withChild(SideNav.create().addItem(item));
+        module.render();
+        module.render();
+
+        item.withIcon("home");
+
+        HtmlAssert.assertThat(module.render()).elementTextEquals("span.sidenav-icon", "home");
+    }
+
+    @Test
+    @DisplayName("Module should invalidate cached output on direct child list writes")
+    void testModuleRenderCacheSeesListWrites() {
+        TestModule module = new TestModule();
+        module.withChild(new HtmlTag("b").withInnerText("one"));
+        module.render();
+        module.render();
+
+        module.children.remove(0);
+        module.children.add(new HtmlTag("b").withInnerText("two"));
+
+        HtmlAssert.assertThat(module.render()).elementTextEquals("div.module > b", "two");
+    }
+
+    @Test
+    @DisplayName("Module should not cache subtrees with untracked leaf components")
+    void testModuleRenderCacheSkipsUntrackedLeaves() {
+        int[] leafRenders = new int[1];
+        TestModule module = new TestModule();
+        module.withChild(new Component() {
+            @Override
+            public String render(RenderContext context) {
+                leafRenders[0]++;
+                return "<i>leaf</i>";
+            }
+        });
+
+        module.render();
+        module.render();
+        module.render();
+
+        assertEquals(3, leafRenders[0]);
+    }
+
+    @Test
+    @DisplayName("Module with slots should not cache render output")
+    void testModuleRenderCacheSkipsSlots() {
+        SlotKey<String> name = SlotKey.of("name");
+        TestModule module = new TestModule();
+        module.withChild(new HtmlTag("span").withInnerText(name));
+
+        HtmlAssert.assertThat(module.render(RenderContext.builder().with(name, "A").build()))
+            .elementTextEquals("div.module > span", "A");
+        HtmlAssert.assertThat(module.render(RenderContext.builder().with(name, "B").build()))
+            .elementTextEquals("div.module > span", "B");
+    }
+
     @Test
     @DisplayName("Module should reject width configuration")
     void testModuleWidthThrows() {
@@ -96,4 +244,19 @@ class ModuleTest {
         assertThrows(UnsupportedOperationException.class, () -> module.withMaxWidth("100%"));
         assertThrows(UnsupportedOperationException.class, () -> module.withMinWidth("10%"));
     }
+
+    @Test
+    @DisplayName("Module should not cache slot output rendered against shared contexts")
+    void testNoCacheForSharedContext() {
+        SlotKey<String> user = SlotKey.of("user");
+        TestModule module = new TestModule();
+        module.withChild(Slot.of(user));
+
+        module.render(RenderContext.builder().with(user, "alice").buildShared());
+        String bob = module.render(RenderContext.builder().with(user, "bob").buildShared());
+        String carol = module.render(RenderContext.of(user, "carol"));
+
+        assertTrue(bob.contains("bob"));
+        assertTrue(carol.contains("carol"));
+    }
 }
@@ -0,0 +1,85 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelRendererTest {
+
+    private static final SlotKey<String> USER = SlotKey.of("user");
+
+    private static class ListModule extends Module {
+        private final int rows;
+
+        private ListModule(int rows) {
+            super("section");
+            this.rows = rows;
+        }
+
+        @Override
+        protected void buildContent() {
+            for (int i = 0; i < rows; i++) {
+                super.withChild(new Div().withClass("row")
+                    .withChild(new HtmlTag("h3").withInnerText("Row " + i))
+                    .withChild(new HtmlTag("span").withInnerText(USER)));
+            }
+        }
+    }
+
+    private static Div page() {
+        Div root = new Div().withClass("page");
+        for (int i = 0; i < 8; i++) {
+            root.withChild(new ListModule(50));
+        }
+        return root;
+    }
+
+    @Test
+    @DisplayName("ParallelRenderer should produce the same bytes as a sequential render")
+    void testByteIdentical() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelRenderer renderer = ParallelRenderer.create().withThreshold(16).withPool(pool);
+
+            String sequential = page().render(RenderContext.of(USER, "ada"));
+            String parallel = renderer.render(page(), RenderContext.of(USER, "ada"));
+
+            assertEquals(sequential, parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("ParallelRenderer should count task reads so modules do not cache slot output")
+    void testModuleCacheSeesTaskReads() {
+        ParallelRenderer renderer = ParallelRenderer.create().withThreshold(16);
+        Div page = page();
+
+        renderer.render(page, RenderContext.of(USER, "ada"));
+        String second = renderer.render(page, RenderContext.of(USER, "bob"));
+
+        assertTrue(second.contains("<span>bob</span>"));
+        assertFalse(second.contains("<span>ada</span>"));
+    }
+
+    @Test
+    @DisplayName("ParallelRenderer should fall back to a sequential render for small or deferred trees")
+    void testSequentialFallback() {
+        ParallelRenderer renderer = ParallelRenderer.create();
+        Div small = new Div().withChild(new Div().withInnerText("one"));
+        Div deferred = page().withChild(Deferred.of(SlotKey.of("late"), "/late"));
+
+        assertEquals(small.render(), renderer.render(small, RenderContext.empty()));
+        assertEquals(deferred.render(RenderContext.of(USER, "ada")),
+            ParallelRenderer.create().withThreshold(16).render(deferred, RenderContext.of(USER, "ada")));
+        assertThrows(IllegalArgumentException.class, () -> ParallelRenderer.create().withThreshold(1));
+    }
+}
@@ -0,0 +1,137 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import io.mindspice.simplypages.modules.ContentModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderBudgetTest {
+
+    private static Div nested(int levels) {
+        Div root = new Div();
+        Div current = root;
+        for (int i = 0; i < levels; i++) {
+            Div child = new Div();
+            current.withChild(child);
+            current = child;
+        }
+        return root;
+    }
+
+    @Test
+    @DisplayName("RenderBudget should replace only the subtree that exceeds the depth limit")
+    void testDepthLimit() {
+        RenderBudget budget = RenderBudget.create()
+            .withMaxDepth(5)
+            .withFallback(new Div().withClass("too-deep"));
+        Div page = new Div()
+            .withChild(RenderBudget.guard(nested(20)))
+            .withChild(new Div().withInnerText("after"));
+
+        String html = page.render(budget.attach(RenderContext.empty()));
+
+        assertEquals("<div><div class=\"too-deep\"></div><div>after</div></div>", html);
+    }
+
+    @Test
+    @DisplayName("RenderBudget should fall back at every module once output is exhausted")
+    void testOutputLimit() {
+        RenderBudget budget = RenderBudget.create()
+            .withMaxChars(200)
+            .withFallback(new Div().withClass("cut"));
+        Div page = new Div()
+            .withChild(ContentModule.create().withContent("x".repeat(500)).disableMarkdown())
+            .withChild(ContentModule.create().withContent("small").disableMarkdown());
+
+        String html = page.render(budget.attach(RenderContext.empty()));
+
+        assertEquals("<div><div class=\"cut\"></div><div class=\"cut\"></div></div>", html);
+    }
+
+    @Test
+    @DisplayName("RenderBudget should treat template components as boundaries and keep static markup")
+    void testTemplateBoundary() {
+        RenderBudget budget = RenderBudget.create().withMaxChars(100);
+        Template template = Template.of(new Div()
+            .withChild(RenderBudget.guard(new Div().withInnerText("y".repeat(300))))
+            .withChild(new Div().withInnerText("static")));
+
+        String html = template.render(budget.attach(RenderContext.empty()));
+
+        assertEquals("<div><div>static</div></div>", html);
+    }
+
+    @Test
+    @DisplayName("RenderBudget should fall back once the deadline has passed")
+    void testDeadline() {
+        RenderBudget budget = RenderBudget.create()
+            .withTimeout(Duration.ZERO)
+            .withFallback(new Div().withClass("late"));
+        Div page = new Div().withChild(RenderBudget.guard(nested(40)));
+
+        String html = page.render(budget.attach(RenderContext.empty()));
+
+        assertTrue(html.contains("class=\"late\""));
+    }
+
+    @Test
+    @DisplayName("RenderBudget guard should render unchanged without an attached budget")
+    void testGuardWithoutBudget() {
+        Div content = nested(3);
+
+        assertEquals(content.render(), RenderBudget.guard(content).render(RenderContext.empty()));
+    }
+
+    @Test
+    @DisplayName("RenderBudget should propagate limits hit outside any boundary")
+    void testUnguarded() {
+        RenderBudget budget = RenderBudget.create().withMaxDepth(2);
+
+        assertThrows(RenderBudget.ExceededException.class,
+            () -> nested(5).render(budget.attach(RenderContext.empty())));
+        assertThrows(IllegalArgumentException.class, () -> RenderBudget.create().withMaxDepth(0));
+    }
+
+    @Test
+    @DisplayName("RenderBudget fallback in a nested module should not be cached by the enclosing module")
+    void testFallbackNotCachedByParent() {
+        RenderBudget budget = RenderBudget.create()
+            .withMaxChars(200)
+            .withFallback(new Div().withClass("cut"));
+        RowsModule outer = new RowsModule(0);
+
+        String limited = outer.render(budget.attach(RenderContext.empty()));
+        String unlimited = outer.render(RenderContext.empty());
+
+        assertTrue(limited.contains("class=\"cut\""));
+        assertTrue(unlimited.contains("row 49"));
+        assertFalse(unlimited.contains("class=\"cut\""));
+    }
+
+    private static class RowsModule extends Module {
+        private final int rows;
+
+        private RowsModule(int rows) {
+            super("section");
+            this.rows = rows;
+        }
+
+        @Override
+        protected void buildContent() {
+            if (rows == 0) {
+                super.withChild(new RowsModule(50));
+                return;
+            }
+            for (int i = 0; i < rows; i++) {
+                super.withChild(new Div().withInnerText("row " + i));
+            }
+        }
+    }
+}
@@ -185,4 +185,47 @@ class RenderContextTest {
         RenderContext context = RenderContext.empty();
         assertThrows(NullPointerException.class, () -> context.withPolicy(null));
     }
+
+    @Test
+    @DisplayName("Overlay contexts should fall through to the shared parent")
+    void testLayeredLookup() {
+        SlotKey<String> site = SlotKey.of("site");
+        SlotKey<String> user = SlotKey.of("user");
+        RenderContext shared = RenderContext.builder()
+            .with(site, "Example")
+            .with(user, "guest")
+            .buildShared();
+
+        RenderContext request = RenderContext.builder(shared).with(user, "alice").build();
+        RenderContext overlay = shared.overlay();
+
+        assertEquals("Example", request.get(site).orElseThrow());
+        assertEquals("alice", request.get(user).orElseThrow());
+        assertEquals("guest", overlay.get(user).orElseThrow());
+        assertEquals(Map.of(site, new SlotEntry.LiveEntry(String.class, "Example"),
+            user, new SlotEntry.LiveEntry(String.class, "alice")), request.getEntries());
+
+        String html = Template.of(new HtmlTag("p").withInnerText(site)).render(request);
+        assertEquals("<p>Example</p>", html);
+    }
+
+    @Test
+    @DisplayName("Shared contexts should reject mutation while overlays keep writes local")
+    void testSharedContextImmutable() {
+        SlotKey<String> site = SlotKey.of("site");
+        RenderContext shared = RenderContext.builder().with(site, "Example").buildShared();
+
+        assertTrue(shared.isShared());
+        assertThrows(UnsupportedOperationException.class, () -> shared.put(site, "Other"));
+        assertThrows(UnsupportedOperationException.class, () -> shared.putCompiled(site, "<b>x</b>"));
+        assertThrows(UnsupportedOperationException.class, shared::clear);
+
+        RenderContext overlay = shared.overlay().withPolicy(RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT);
+        overlay.put(site, "Local");
+        assertEquals("Local", overlay.get(site).orElseThrow());
+        overlay.remove(site);
+        assertEquals("Example", overlay.get(site).orElseThrow());
+        assertEquals("Example", shared.get(site).orElseThrow());
+        assertFalse(shared.isCompiled(site));
+    }
 }
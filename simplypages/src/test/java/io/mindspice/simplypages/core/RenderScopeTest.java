@@ -0,0 +1,77 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderScopeTest {
+
+    @Test
+    @DisplayName("RenderScope should hand back a cleared context from the pool")
+    void testContextReuse() {
+        SlotKey<String> name = SlotKey.of("name");
+        Template template = Template.of(new Div().withInnerText(name));
+        RenderPool pool = new RenderPool(2);
+
+        RenderContext first;
+        try (RenderScope scope = pool.open()) {
+            first = scope.context();
+            first.put(name, "Ann").withPolicy(RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT);
+            assertEquals("<div>Ann</div>", scope.render(template));
+        }
+        assertEquals(1, pool.idleContexts());
+
+        try (RenderScope scope = pool.open()) {
+            assertSame(first, scope.context());
+            assertTrue(scope.context().getEntries().isEmpty());
+            assertEquals(RenderContext.RenderPolicy.NEVER_COMPILE, scope.context().getPolicy());
+            assertEquals("<div></div>", scope.render(template));
+        }
+    }
+
+    @Test
+    @DisplayName("RenderScope should reject use after close and tolerate double close")
+    void testClosedScope() {
+        RenderScope scope = new RenderPool(1).open();
+        scope.close();
+        scope.close();
+
+        assertThrows(IllegalStateException.class, scope::context);
+        assertThrows(IllegalStateException.class, () -> scope.render(Template.of(new Div())));
+        assertThrows(IllegalArgumentException.class, () -> new RenderPool(0));
+    }
+
+    @Test
+    @DisplayName("Template should pre-size buffers from its last output size")
+    void testSizeHint() {
+        SlotKey<String> body = SlotKey.of("body");
+        Template template = Template.of(new Div().withInnerText(body));
+        String text = "x".repeat(5000);
+
+        template.render(RenderContext.of(body, text));
+        assertTrue(template.sizeHint() >= text.length() + "<div></div>".length());
+
+        StringBuilder sb = new StringBuilder("prefix");
+        template.renderTo(RenderContext.of(body, "y"), sb);
+        assertEquals("prefix<div>y</div>", sb.toString());
+    }
+
+    @Test
+    @DisplayName("RenderPool should retain buffers up to the largest size class and drop larger ones")
+    void testOversizedBuffersDropped() {
+        RenderPool pool = new RenderPool(2);
+        StringBuilder largest = new StringBuilder(1 << 18);
+        StringBuilder oversized = new StringBuilder((1 << 18) + 1);
+
+        pool.releaseBuffer(oversized);
+        pool.releaseBuffer(largest);
+
+        assertSame(largest, pool.acquireBuffer(1 << 18));
+        assertEquals(1 << 18, pool.acquireBuffer(1 << 18).capacity());
+    }
+}
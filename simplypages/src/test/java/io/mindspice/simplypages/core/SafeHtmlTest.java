@@ -0,0 +1,61 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import io.mindspice.simplypages.testutil.HtmlAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SafeHtmlTest {
+
+    @Test
+    @DisplayName("SafeHtml slot values should render verbatim in Slot and Template")
+    void testSafeHtmlSlotValue() {
+        SlotKey<SafeHtml> key = SlotKey.of("fragment");
+        RenderContext context = RenderContext.builder()
+            .with(key, SafeHtml.trust("<b>bold</b>"))
+            .build();
+
+        assertEquals("<b>bold</b>", Slot.of(key).render(context));
+        assertEquals("<div><b>bold</b></div>", Template.of(new Div().withChild(Slot.of(key))).render(context));
+    }
+
+    @Test
+    @DisplayName("HtmlTag should append SafeHtml inner content and children verbatim")
+    void testSafeHtmlInHtmlTag() {
+        SafeHtml fragment = SafeHtml.trust("<em>x</em>");
+
+        assertEquals("<p><em>x</em></p>", new HtmlTag("p").withInnerHtml(fragment).render());
+        assertEquals("<p><em>x</em></p>", new HtmlTag("p").withChild(fragment).render());
+        assertEquals("<p><em>x</em></p>", Template.of(new HtmlTag("p").withChild(fragment)).render(RenderContext.empty()));
+    }
+
+    @Test
+    @DisplayName("Template.renderSafe should compose into another template without escaping")
+    void testRenderSafeComposition() {
+        SlotKey<String> name = SlotKey.of("name");
+        SlotKey<SafeHtml> body = SlotKey.of("body");
+        Template inner = Template.of(new HtmlTag("span").withInnerText(name));
+        Template outer = Template.of(new Div().withClass("card").withChild(Slot.of(body)));
+
+        SafeHtml fragment = inner.renderSafe(RenderContext.builder().with(name, "<Ann>").build());
+        String html = outer.render(RenderContext.builder().with(body, fragment).build());
+
+        assertEquals("<div class=\"card\"><span>&lt;Ann&gt;</span></div>", html);
+        HtmlAssert.assertThat(html).elementTextEquals("div.card > span", "<Ann>");
+    }
+
+    @Test
+    @DisplayName("SafeHtml.of should render components once and reuse SafeHtml inputs")
+    void testSafeHtmlOf() {
+        SafeHtml rendered = SafeHtml.of(new HtmlTag("i").withInnerText("a&b"));
+
+        assertEquals("<i>a&amp;b</i>", rendered.html());
+        assertSame(rendered, SafeHtml.of(rendered));
+        assertEquals(SafeHtml.trust("<i>a&amp;b</i>"), rendered);
+        assertThrows(NullPointerException.class, () -> SafeHtml.trust(null));
+    }
+}
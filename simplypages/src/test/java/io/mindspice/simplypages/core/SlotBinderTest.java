@@ -0,0 +1,85 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlotBinderTest {
+
+    public record Product(String title, int price, boolean inStock, LocalDate since) {
+    }
+
+    public static class Settings {
+        private String name;
+        private int limit;
+        private boolean enabled = true;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public int getLimit() { return limit; }
+        public void setLimit(int limit) { this.limit = limit; }
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    private static final SlotKey<String> TITLE = SlotKey.of("title");
+    private static final SlotKey<Integer> PRICE = SlotKey.ofInt("price");
+
+    @Test
+    @DisplayName("SlotBinder should fill the template slots that match record components")
+    void testBindRecord() {
+        Template card = Template.of(new Div()
+            .withChild(Slot.of(TITLE))
+            .withChild(Slot.of(PRICE))
+            .withChild(Slot.of(SlotKey.of("unrelated", "-"))));
+        SlotBinder<Product> binder = SlotBinder.of(Product.class, card);
+
+        String html = card.render(binder.bind(new Product("<Lamp>", 42, true, null), RenderContext.empty()));
+        assertEquals("<div>&lt;Lamp&gt;42-</div>", html);
+    }
+
+    @Test
+    @DisplayName("SlotBinder should parse form data into records and context values")
+    void testFromForm() {
+        SlotBinder<Product> binder = SlotBinder.of(Product.class, TITLE, PRICE);
+
+        Product product = binder.fromForm(Map.of("title", "Lamp", "price", " 7 ", "inStock", "on", "since", "2024-01-02"));
+        assertEquals(new Product("Lamp", 7, true, LocalDate.of(2024, 1, 2)), product);
+        assertEquals(new Product(null, 0, false, null), binder.fromForm(Map.of("price", "")));
+        assertEquals(Optional.of(5), binder.read(Map.of("price", "5"), RenderContext.empty()).get(PRICE));
+        assertThrows(IllegalArgumentException.class, () -> binder.fromForm(Map.of("price", "seven")));
+    }
+
+    @Test
+    @DisplayName("SlotBinder should apply form data to bean setters with checkbox semantics")
+    void testApplyFormToBean() {
+        SlotBinder<Settings> binder = SlotBinder.of(Settings.class, SlotKey.of("name"));
+
+        Settings settings = binder.applyForm(new Settings(), Map.of("name", "Ann", "limit", "3"));
+        assertEquals("Ann", settings.getName());
+        assertEquals(3, settings.getLimit());
+        assertFalse(settings.isEnabled());
+        assertThrows(IllegalStateException.class, () -> binder.fromForm(Map.of()));
+    }
+
+    @Test
+    @DisplayName("SlotBinder should reject explicit keys without a matching property")
+    void testUnknownKey() {
+        assertThrows(IllegalArgumentException.class, () -> SlotBinder.of(Settings.class, SlotKey.of("missing")));
+    }
+
+    @Test
+    @DisplayName("SlotBinder should reject typed keys whose type does not match the property")
+    void testKeyTypeMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> SlotBinder.of(Settings.class, SlotKey.ofInt("name")));
+        SlotBinder.of(Settings.class, SlotKey.ofInt("limit"), SlotKey.ofBoolean("enabled"));
+    }
+}
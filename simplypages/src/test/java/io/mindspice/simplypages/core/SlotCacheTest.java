@@ -0,0 +1,126 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlotCacheTest {
+
+    private static final SlotKey<Component> BODY = SlotKey.of("body");
+    private static final Template PAGE = Template.of(new Div().withChild(Slot.of(BODY)));
+
+    private static Component counting(AtomicInteger renders, String html) {
+        return new Component() {
+            @Override
+            public String render(RenderContext context) {
+                renders.incrementAndGet();
+                return html;
+            }
+        };
+    }
+
+    private static RenderContext request(RenderContext app, Component body) {
+        RenderContext context = app.overlay();
+        context.put(BODY, body);
+        return context;
+    }
+
+    @Test
+    @DisplayName("SlotCache should store a component seen twice across request contexts until invalidated")
+    void testSharedAcrossContexts() {
+        SlotCache cache = new SlotCache(16);
+        RenderContext app = RenderContext.builder()
+            .withPolicy(RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT)
+            .withSlotCache(cache)
+            .buildShared();
+        AtomicInteger renders = new AtomicInteger();
+        Component body = counting(renders, "<p>doc</p>");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("<div><p>doc</p></div>", PAGE.render(request(app, body)));
+        }
+        assertEquals(2, renders.get());
+        assertSame(cache, app.overlay().getSlotCache());
+
+        assertEquals(1, cache.invalidate(BODY));
+        PAGE.render(request(app, body));
+        PAGE.render(request(app, body));
+        PAGE.render(request(app, body));
+        assertEquals(4, renders.get());
+
+        PAGE.render(request(app, counting(renders, "<p>other</p>")));
+        assertEquals(5, renders.get());
+    }
+
+    @Test
+    @DisplayName("SlotCache should key by version when asked and skip context-dependent output")
+    void testVersionKeysAndLiveOutput() {
+        SlotCache cache = new SlotCache(16).keyByVersion(BODY);
+        RenderContext app = RenderContext.builder()
+            .withPolicy(RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT)
+            .withSlotCache(cache)
+            .buildShared();
+        AtomicInteger renders = new AtomicInteger();
+
+        PAGE.render(request(app, counting(renders, "<nav/>")));
+        assertEquals("<div><nav/></div>", PAGE.render(request(app, counting(renders, "<nav/>"))));
+        assertEquals(1, renders.get());
+
+        SlotKey<String> name = SlotKey.of("name");
+        SlotKey<Component> greeting = SlotKey.of("greeting");
+        Template template = Template.of(new Div().withChild(Slot.of(greeting)));
+        Component reader = new Div().withInnerText(name);
+        RenderContext first = app.overlay().put(greeting, reader).put(name, "Ann");
+        RenderContext second = app.overlay().put(greeting, reader).put(name, "Bob");
+
+        assertEquals("<div><div>Ann</div></div>", template.render(first));
+        assertEquals("<div><div>Bob</div></div>", template.render(second));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("SlotCache should evict oldest entries beyond its bound")
+    void testBounded() {
+        SlotCache cache = new SlotCache(2);
+        RenderContext app = RenderContext.builder()
+            .withPolicy(RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT)
+            .withSlotCache(cache)
+            .buildShared();
+        AtomicInteger renders = new AtomicInteger();
+        Component first = counting(renders, "a");
+
+        for (Component body : new Component[]{first, counting(renders, "b"), counting(renders, "c")}) {
+            PAGE.render(request(app, body));
+            PAGE.render(request(app, body));
+        }
+        assertEquals(2, cache.size());
+
+        PAGE.render(request(app, first));
+        assertEquals(7, renders.get());
+        assertThrows(IllegalArgumentException.class, () -> new SlotCache(0));
+    }
+
+    @Test
+    @DisplayName("SlotCache should not admit components rendered only once")
+    void testPerRequestComponentsNotAdmitted() {
+        SlotCache cache = new SlotCache(4);
+        RenderContext app = RenderContext.builder()
+            .withPolicy(RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT)
+            .withSlotCache(cache)
+            .buildShared();
+        AtomicInteger renders = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            PAGE.render(request(app, counting(renders, "<p>" + i + "</p>")));
+        }
+
+        assertEquals(10, renders.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SlotKeyMapTest {
@@ -83,4 +84,86 @@ class SlotKeyMapTest {
         assertEquals("Hello", roundTrip.get(title).orElse(""));
         assertEquals(7, roundTrip.get(count).orElse(0));
     }
+
+    @Test
+    @DisplayName("SlotKeyMap should store primitives unboxed and read them back by type")
+    void testPrimitiveColumns() {
+        SlotKeyMap map = SlotKeyMap.create()
+            .putInt("count", 3)
+            .putLong("total", 9_000_000_000L)
+            .putBoolean("active", true)
+            .putDouble("ratio", 0.5)
+            .putInt("missing", (Integer) null);
+        for (int i = 0; i < 50; i++) {
+            map.putInt("field" + i, i);
+        }
+
+        assertEquals(3, map.getInt("count", -1));
+        assertEquals(9_000_000_000L, map.getLong("total", 0L));
+        assertTrue(map.getBoolean("active", false));
+        assertEquals(0.5, map.getDouble("ratio", 0.0));
+        assertEquals(-1, map.getInt("missing", -1));
+        assertEquals(42, map.getInt("field42", -1));
+        assertEquals(55, map.size());
+        assertEquals(TypedValue.integer(3), map.get("count").orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> map.getInt("active", 0));
+    }
+
+    @Test
+    @DisplayName("SlotKeyMap defaults view should reflect sources and keep its own writes")
+    void testDefaultsView() {
+        SlotKeyMap defaults = SlotKeyMap.create().putString("title", "Default Title");
+        SlotKeyMap data = SlotKeyMap.create().putInt("count", 1);
+        SlotKeyMap merged = data.withDefaults(defaults);
+
+        defaults.putString("content", "Late Default");
+        merged.putString("title", "Edited");
+
+        assertEquals("Late Default", merged.getValue("content", String.class).orElse(""));
+        assertEquals("Edited", merged.getValue("title", String.class).orElse(""));
+        assertEquals("Default Title", defaults.getValue("title", String.class).orElse(""));
+        assertEquals(3, merged.size());
+        assertEquals(Map.of("title", "Edited", "content", "Late Default", "count", 1), merged.toPlainMap());
+    }
+
+    @Test
+    @DisplayName("SlotKeyMap.asRenderContext should read the map in place until the context is written")
+    void testRenderContextView() {
+        SlotKey<String> title = SlotKey.of("card.title");
+        SlotKey<Integer> count = SlotKey.of("count");
+        SlotKeyMap map = SlotKeyMap.create().putString("title", "Hello").putInt("count", 3).putString("unmapped", "x");
+
+        RenderContext context = map.asRenderContext(Map.of("title", title, "count", count));
+        assertEquals("Hello", context.get(title).orElse(""));
+        assertEquals(2, context.getEntries().size());
+
+        map.putString("title", "Live");
+        assertEquals("Live", context.get(title).orElse(""));
+
+        context.put(count, 9);
+        map.putString("title", "Ignored");
+        assertEquals("Live", context.get(title).orElse(""));
+        assertEquals(9, context.get(count).orElse(0));
+        assertEquals(3, map.getInt("count", 0));
+    }
+
+    @Test
+    @DisplayName("SlotKeyMap.viewOf should read a RenderContext in place and keep its own writes")
+    void testContextBackedView() {
+        SlotKey<String> title = SlotKey.of("title");
+        SlotKey<Integer> count = SlotKey.of("count");
+        RenderContext context = RenderContext.empty().put(title, "Hello").put(count, 4);
+
+        SlotKeyMap view = SlotKeyMap.viewOf(context);
+        assertEquals("Hello", view.getValue("title", String.class).orElse(""));
+        assertEquals(4, view.getInt("count", 0));
+
+        context.put(count, 5);
+        assertEquals(5, view.getInt("count", 0));
+
+        view.putInt("count", 7).putString("extra", "x");
+        assertEquals(7, view.getInt("count", 0));
+        assertEquals(5, context.get(count).orElse(0));
+        assertEquals(Map.of("title", "Hello", "count", 7, "extra", "x"), view.toPlainMap());
+    }
 }
@@ -3,6 +3,11 @@ package io.mindspice.simplypages.core;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -40,4 +45,49 @@ class SlotKeyTest {
 
         assertEquals("value", derived.getDefault(context));
     }
+
+    private enum Status {
+        OPEN,
+        CLOSED {
+            @Override
+            public String toString() {
+                return "<closed>";
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Typed SlotKeys should render through Template and Slot without escaping churn")
+    void testTypedKeysRender() {
+        SlotKey<Integer> count = SlotKey.ofInt("count");
+        SlotKey<Long> total = SlotKey.ofLong("total");
+        SlotKey<Boolean> flag = SlotKey.ofBoolean("flag");
+        SlotKey<Status> status = SlotKey.ofEnum("status", Status.class);
+        SlotKey<TemporalAccessor> date = SlotKey.ofTemporal("date", "yyyy-MM-dd", Locale.ROOT);
+        Template template = Template.of(new HtmlTag("p")
+            .withChild(Slot.of(count)).withChild(Slot.of(total)).withChild(Slot.of(flag))
+            .withChild(Slot.of(status)).withChild(Slot.of(date)));
+
+        RenderContext context = RenderContext.builder()
+            .with(count, -42)
+            .with(total, 9_000_000_000L)
+            .with(flag, true)
+            .with(status, Status.CLOSED)
+            .with(date, LocalDate.of(2024, 2, 29))
+            .build();
+
+        assertEquals("<p>-429000000000true&lt;closed&gt;2024-02-29</p>", template.render(context));
+        assertEquals("-42", Slot.of(count).render(context));
+        assertEquals("&lt;closed&gt;", Slot.of(status).render(context));
+    }
+
+    @Test
+    @DisplayName("Typed SlotKeys should escape markup from formatter literals and keep name equality")
+    void testTypedKeyEscapingAndEquality() {
+        SlotKey<TemporalAccessor> date = SlotKey.ofTemporal("date", DateTimeFormatter.ofPattern("'<'yyyy'>'"));
+        RenderContext context = RenderContext.builder().with(date, LocalDate.of(2024, 1, 1)).build();
+
+        assertEquals("<p>&lt;2024&gt;</p>", Template.of(new HtmlTag("p").withChild(Slot.of(date))).render(context));
+        assertEquals(SlotKey.of("count"), SlotKey.ofInt("count"));
+    }
 }
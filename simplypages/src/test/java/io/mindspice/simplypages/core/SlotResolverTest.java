@@ -0,0 +1,122 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlotResolverTest {
+
+    private static <T> Supplier<T> slow(long millis, T value) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        };
+    }
+
+    @Test
+    @DisplayName("SlotResolver should run suppliers in parallel on virtual threads")
+    void testParallelResolution() {
+        SlotKey<String> stats = SlotKey.of("stats");
+        SlotKey<String> posts = SlotKey.of("posts");
+        SlotKey<String> alerts = SlotKey.of("alerts");
+        SlotKey<Boolean> virtual = SlotKey.of("virtual");
+        RenderContext context = RenderContext.empty();
+
+        long start = System.nanoTime();
+        Set<SlotKey<?>> fallbacks = SlotResolver.create(Duration.ofSeconds(5))
+            .supply(stats, slow(300, "12"))
+            .supply(posts, slow(300, "3 posts"))
+            .supply(alerts, slow(300, "none"))
+            .supply(virtual, () -> Thread.currentThread().isVirtual())
+            .resolveInto(context);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(fallbacks.isEmpty());
+        assertTrue(elapsedMillis < 850, "expected parallel resolution, took " + elapsedMillis + "ms");
+        assertEquals(true, context.get(virtual).orElseThrow());
+        Template template = Template.of(new Div().withChild(Slot.of(stats)).withChild(Slot.of(posts)));
+        assertEquals("<div>123 posts</div>", template.render(context));
+    }
+
+    @Test
+    @DisplayName("SlotResolver should fall back to key defaults on timeout, failure, or null")
+    void testFallbacks() {
+        SlotKey<String> slow = SlotKey.of("slow", "cached");
+        SlotKey<String> failing = SlotKey.of("failing", "n/a");
+        SlotKey<String> empty = SlotKey.of("empty", "-");
+        SlotKey<String> ready = SlotKey.of("ready");
+        RenderContext context = RenderContext.empty();
+
+        Set<SlotKey<?>> fallbacks = SlotResolver.create(Duration.ofSeconds(5))
+            .supply(slow, slow(2_000, "fresh"), Duration.ofMillis(50))
+            .supply(failing, () -> { throw new IllegalStateException("backend down"); })
+            .await(empty, CompletableFuture.completedFuture(null))
+            .await(ready, CompletableFuture.completedFuture("ok"))
+            .resolveInto(context);
+
+        assertEquals(List.of(slow, failing, empty), List.copyOf(fallbacks));
+        assertEquals("cached", context.get(slow).orElseThrow());
+        assertEquals("n/a", context.get(failing).orElseThrow());
+        assertEquals("-", context.get(empty).orElseThrow());
+        assertEquals("ok", context.get(ready).orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> SlotResolver.create(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    @DisplayName("SlotResolver should cancel timed-out slots and report every fallback cause")
+    void testCancellationAndListener() throws InterruptedException {
+        SlotKey<String> slow = SlotKey.of("slow");
+        SlotKey<String> failing = SlotKey.of("failing");
+        SlotKey<String> empty = SlotKey.of("empty");
+        SlotKey<String> stalled = SlotKey.of("stalled");
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> stage = new CompletableFuture<>();
+        IllegalStateException failure = new IllegalStateException("backend down");
+        Map<SlotKey<?>, Throwable> reported = new LinkedHashMap<>();
+
+        Set<SlotKey<?>> fallbacks = SlotResolver.create(Duration.ofMillis(50))
+            .withListener(reported::put)
+            .supply(slow, () -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "late";
+            })
+            .supply(failing, () -> { throw failure; })
+            .supply(empty, () -> null)
+            .await(stalled, stage)
+            .resolveInto(RenderContext.empty());
+
+        assertEquals(List.of(slow, failing, empty, stalled), List.copyOf(fallbacks));
+        assertEquals(List.copyOf(fallbacks), List.copyOf(reported.keySet()));
+        assertTrue(reported.get(slow) instanceof TimeoutException);
+        assertSame(failure, reported.get(failing));
+        assertNull(reported.get(empty));
+        assertTrue(reported.get(stalled) instanceof TimeoutException);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS), "timed-out supplier should be interrupted");
+        assertTrue(stage.isCancelled());
+    }
+}
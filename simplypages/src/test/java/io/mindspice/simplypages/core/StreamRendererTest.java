@@ -0,0 +1,138 @@
+package io.mindspice.simplypages.core;
+
+import io.mindspice.simplypages.components.Div;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamRendererTest {
+
+    @Test
+    @DisplayName("StreamRenderer should write the container shell first and each row as it arrives")
+    void testStreamsRows() throws Exception {
+        List<String> chunks = new ArrayList<>();
+        Div shell = new Div().withClass("report").withChild(new Div().withInnerText("Header"));
+
+        try (SubmissionPublisher<Component> rows = new SubmissionPublisher<>()) {
+            CompletableFuture<Void> done = StreamRenderer.into(shell).render(rows, chunk -> {
+                chunks.add(chunk.toString());
+                return CompletableFuture.completedFuture(null);
+            });
+            for (int i = 0; i < 3; i++) {
+                rows.submit(new Div().withInnerText("row" + i));
+            }
+            rows.close();
+            done.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(List.of("<div class=\"report\"><div>Header</div>", "<div>row0</div>", "<div>row1</div>",
+            "<div>row2</div>", "</div>"), chunks);
+    }
+
+    @Test
+    @DisplayName("StreamRenderer should coalesce rows up to the chunk size")
+    void testChunkSize() throws Exception {
+        StringWriter out = new StringWriter();
+        try (SubmissionPublisher<Component> rows = new SubmissionPublisher<>()) {
+            CompletableFuture<Void> done = StreamRenderer.create().withChunkSize(1024).render(rows, StreamSink.of(out));
+            rows.submit(new Div().withInnerText("a"));
+            rows.submit(new Div().withInnerText("b"));
+            rows.close();
+            done.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals("<div>a</div><div>b</div>", out.toString());
+    }
+
+    @Test
+    @DisplayName("StreamRenderer should fail without closing markup when the publisher fails")
+    void testPublisherError() {
+        StringWriter out = new StringWriter();
+        CompletableFuture<Void> done;
+        try (SubmissionPublisher<Component> rows = new SubmissionPublisher<>()) {
+            done = StreamRenderer.into(new Div()).render(rows, StreamSink.of(out));
+            rows.closeExceptionally(new IllegalStateException("query failed"));
+        }
+        ExecutionException error = assertThrows(ExecutionException.class, () -> done.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertEquals("<div>", out.toString());
+    }
+
+    @Test
+    @DisplayName("StreamRenderer should reject a container whose render does not end with its closing tag")
+    void testContainerWithTrailingMarkup() {
+        Div shell = new Div() {
+            @Override
+            public String render(RenderContext context) {
+                return super.render(context) + "<script></script>";
+            }
+        };
+        try (SubmissionPublisher<Component> rows = new SubmissionPublisher<>()) {
+            assertThrows(IllegalArgumentException.class,
+                () -> StreamRenderer.into(shell).render(rows, StreamSink.of(new StringWriter())));
+        }
+    }
+
+    @Test
+    @DisplayName("StreamRenderer should keep slot writes made while rendering out of the configured context")
+    void testRendersThroughOverlay() throws Exception {
+        SlotKey<String> seen = SlotKey.of("seen");
+        RenderContext context = RenderContext.empty();
+        Component writer = new Component() {
+            @Override
+            public String render(RenderContext renderContext) {
+                renderContext.put(seen, "row");
+                return "<p></p>";
+            }
+        };
+        StringWriter out = new StringWriter();
+
+        try (SubmissionPublisher<Component> rows = new SubmissionPublisher<>()) {
+            CompletableFuture<Void> done = StreamRenderer.create().withContext(context).render(rows, StreamSink.of(out));
+            rows.submit(writer);
+            rows.close();
+            done.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals("<p></p>", out.toString());
+        assertTrue(context.get(seen).isEmpty());
+    }
+
+    @Test
+    @DisplayName("StreamRenderer should defer publisher completion until an async write drains")
+    void testCompletionDuringAsyncWrite() throws Exception {
+        StringBuffer out = new StringBuffer();
+        StreamSink slowSink = chunk -> {
+            String copy = chunk.toString();
+            return CompletableFuture.runAsync(() -> out.append(copy),
+                CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+        };
+
+        // Completes right after subscribing, without waiting for demand.
+        Flow.Publisher<Component> empty = subscriber -> {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) { }
+
+                @Override
+                public void cancel() { }
+            });
+            subscriber.onComplete();
+        };
+
+        StreamRenderer.into(new Div()).render(empty, slowSink).get(5, TimeUnit.SECONDS);
+
+        assertEquals("<div></div>", out.toString());
+    }
+}
@@ -1,11 +1,21 @@
 package io.mindspice.simplypages.core;
 
 import io.mindspice.simplypages.components.Div;
+import io.mindspice.simplypages.components.RawHtml;
 import io.mindspice.simplypages.testutil.HtmlAssert;
 import io.mindspice.simplypages.testutil.SnapshotAssert;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -246,4 +256,122 @@ class TemplateTest {
         HtmlAssert.assertThat(html2).elementTextEquals("div > span.title", "Default-2");
         assertFalse(context.isCompiled(key));
     }
+
+    @Test
+    @DisplayName("Template should compile frozen static subtrees to one static segment")
+    void testFrozenSubtreeCompilesStatic() {
+        AtomicInteger counter = new AtomicInteger(0);
+        SlotKey<String> key = SlotKey.of("name");
+        HtmlTag frozen = new Div().withClass("static").withChild(new CountingComponent(counter)).freeze();
+        Div root = new Div().withChild(frozen)
+            .withChild(new HtmlTag("span").withClass("name").withInnerText(key));
+
+        Template template = Template.of(root);
+        template.render(RenderContext.builder().with(key, "Alice").build());
+        String html = template.render(RenderContext.builder().with(key, "Bob").build());
+
+        assertEquals(1, counter.get());
+        HtmlAssert.assertThat(html)
+            .hasElement("div > div.static > span.counted")
+            .elementTextEquals("div > span.name", "Bob");
+    }
+
+    @Test
+    @DisplayName("Template.renderAll should deliver one output per context in order")
+    void testRenderAll() {
+        SlotKey<String> name = SlotKey.of("name");
+        Template template = Template.of(new Div().withInnerText(name));
+        List<String> outputs = new ArrayList<>();
+
+        template.renderAll(List.of(RenderContext.of(name, "Ann"), RenderContext.of(name, "<Bo>")),
+            (context, html) -> outputs.add(html.toString()));
+
+        assertEquals(List.of("<div>Ann</div>", "<div>&lt;Bo&gt;</div>"), outputs);
+    }
+
+    @Test
+    @DisplayName("Template.renderAllParallel should render every context exactly once")
+    void testRenderAllParallel() {
+        SlotKey<String> name = SlotKey.of("name");
+        Template template = Template.of(new Div().withInnerText(name));
+        List<RenderContext> contexts = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            contexts.add(RenderContext.of(name, "user" + i));
+        }
+        Map<String, String> outputs = new ConcurrentHashMap<>();
+
+        template.renderAllParallel(contexts, (context, html) -> outputs.put(context.get(name).orElseThrow(), html.toString()));
+
+        assertEquals(2_000, outputs.size());
+        assertEquals("<div>user1234</div>", outputs.get("user1234"));
+    }
+
+    @Test
+    @DisplayName("RenderSink.toFiles should write each output as UTF-8")
+    void testRenderToFiles(@TempDir Path dir) throws IOException {
+        SlotKey<String> name = SlotKey.of("name");
+        Template template = Template.of(new Div().withInnerText(name));
+
+        template.renderAll(List.of(RenderContext.of(name, "caf\u00e9")),
+            RenderSink.toFiles(context -> dir.resolve("page.html")));
+
+        assertEquals("<div>caf\u00e9</div>", Files.readString(dir.resolve("page.html"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Template.minified should collapse whitespace and drop safe quotes but keep pre content")
+    void testMinifiedMarkup() {
+        Div root = new Div().withClass("page wrap").withAttribute("id", "main");
+        root.withChild(new Div().withChild(RawHtml.create("\n   <p>\n     Some   text\n   </p>\n")).freeze());
+        root.withChild(new HtmlTag("span").withInnerText("a   b"));
+        root.withChild(new HtmlTag("pre").withUnsafeHtml("  keep\n    this  "));
+
+        assertEquals("<div class=\"page wrap\" id=main><div><p>Some text</p></div><span>a b</span>"
+            + "<pre>  keep\n    this  </pre></div>", Template.minified(root).render(RenderContext.empty()));
+    }
+
+    @Test
+    @DisplayName("Template.minified should compact inline style and script blocks")
+    void testMinifiedInlineBlocks() {
+        Div root = new Div()
+            .withChild(new HtmlTag("style").withUnsafeHtml("\n  .a  >  b { color : red ; /* note */ }\n  div :hover { margin: 0 auto; }\n"))
+            .withChild(new HtmlTag("script").withUnsafeHtml("\n  // setup\n  function f() {\n      return 1;\n  }\n"));
+
+        assertEquals("<div><style>.a>b{color:red}div :hover{margin:0 auto}</style>"
+            + "<script>function f() {\nreturn 1;\n}</script></div>", Template.minified(root).render(RenderContext.empty()));
+    }
+
+    @Test
+    @DisplayName("Template.minified should keep text around a non-rendering element separated")
+    void testMinifiedAroundScript() {
+        HtmlTag root = new HtmlTag("p").withChild(RawHtml.create("Hello <script>track()</script> world"));
+
+        assertEquals("<p>Hello <script>track()</script>world</p>", Template.minified(root.freeze()).render(RenderContext.empty()));
+    }
+
+    @Test
+    @DisplayName("Template.minified should keep whitespace next to slots")
+    void testMinifiedAroundSlots() {
+        SlotKey<String> name = SlotKey.of("name");
+        HtmlTag root = new HtmlTag("span")
+            .withChild(new HtmlTag("b").withInnerText("Hi"))
+            .withChild(SafeHtml.trust("   "))
+            .withChild(Slot.of(name));
+
+        assertEquals("<span><b>Hi</b> Ada</span>", Template.minified(root).render(RenderContext.of(name, "Ada")));
+    }
+
+    @Test
+    @DisplayName("Template should not compile slots into shared contexts")
+    void testCompileOnFirstHitSharedContext() {
+        SlotKey<String> name = SlotKey.of("name");
+        Template template = Template.of(new Div().withInnerText(name).withChild(Slot.of(name)));
+        RenderContext shared = RenderContext.builder()
+            .with(name, "Ada")
+            .withPolicy(RenderContext.RenderPolicy.COMPILE_ON_FIRST_HIT)
+            .buildShared();
+
+        assertEquals("<div>AdaAda</div>", template.render(shared));
+        assertEquals("<div>AdaAda</div>", template.render(shared));
+    }
 }
@@ -41,6 +41,20 @@ class MoreModulesTest {
         assertTrue(html.contains("Custom"));
     }
 
+    @Test
+    @DisplayName("TimelineModule clone should copy custom event content")
+    void testTimelineCloneCopiesCustomContent() {
+        Paragraph content = new Paragraph("Custom");
+        TimelineModule prototype = TimelineModule.create()
+            .addEvent("Day 1", "Start", content);
+
+        TimelineModule clone = (TimelineModule) prototype.cloneTree();
+        content.withClass("prototype-only");
+
+        assertTrue(prototype.render().contains("prototype-only"));
+        assertFalse(clone.render().contains("prototype-only"));
+    }
+
     @Test
     @DisplayName("TabsModule should render active tab")
     void testTabsModule() {